@@ -0,0 +1,103 @@
+package com.example.bumil_backend.config;
+
+import com.example.bumil_backend.enums.Role;
+import com.example.bumil_backend.repository.ChatRoomRepository;
+import com.example.bumil_backend.repository.UserRepository;
+import com.example.bumil_backend.security.StompPrincipal;
+import com.example.bumil_backend.service.ChatRoomAccessCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+// SEND 프레임 1건당 ChatRoomStompHandler 비용
+// payloadParse: 이전 방식 (프레임마다 ObjectMapper 생성 + payload 문자열 변환 + JSON 파싱으로 roomId 확인)
+// legacyDestination: /pub/chat/send (인터셉터는 경로만 확인, 권한은 MessageService에서)
+// routedDestination: /pub/chat/room/{roomId} (목적지에서 roomId 추출 + 권한 캐시)
+// ./gradlew jmh (gc 프로파일러로 프레임당 할당 바이트도 함께 출력)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChatRoomStompHandlerBenchmark {
+
+    private static final long USER_ID = 7L;
+    private static final long CHAT_ROOM_ID = 42L;
+    private static final byte[] PAYLOAD = ("{\"roomId\":" + CHAT_ROOM_ID + ",\"message\":\"오늘 저녁 식단 뭐예요?\"}")
+            .getBytes(StandardCharsets.UTF_8);
+
+    private ChatRoomAccessCache chatRoomAccessCache;
+    private ChatRoomStompHandler handler;
+    private Message<byte[]> legacyFrame;
+    private Message<byte[]> routedFrame;
+
+    @Setup
+    public void setUp() {
+        // 권한 판단은 첫 조회 후 캐시되므로 저장소는 고정 값만 반환
+        ChatRoomRepository chatRoomRepository = stub(ChatRoomRepository.class, Optional.of(USER_ID));
+        UserRepository userRepository = stub(UserRepository.class, Optional.of(Role.USER));
+        chatRoomAccessCache = new ChatRoomAccessCache(chatRoomRepository, userRepository, 10_000, 60);
+        handler = new ChatRoomStompHandler(chatRoomAccessCache);
+
+        legacyFrame = send("/pub/chat/send");
+        routedFrame = send("/pub/chat/room/" + CHAT_ROOM_ID);
+    }
+
+    @Benchmark
+    public Object payloadParse() {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(legacyFrame);
+        StompPrincipal user = (StompPrincipal) accessor.getSessionAttributes().get(StompPrincipal.SESSION_KEY);
+
+        String payload = new String(legacyFrame.getPayload());
+        long chatRoomId = JsonMapper.builder().build().readTree(payload).get("roomId").asLong();
+        chatRoomAccessCache.checkAccess(user.id(), chatRoomId);
+        return legacyFrame;
+    }
+
+    @Benchmark
+    public Object legacyDestination() {
+        return handler.preSend(legacyFrame, null);
+    }
+
+    @Benchmark
+    public Object routedDestination() {
+        return handler.preSend(routedFrame, null);
+    }
+
+    private Message<byte[]> send(String destination) {
+        Map<String, Object> sessionAttributes = new HashMap<>();
+        sessionAttributes.put(StompPrincipal.SESSION_KEY, new StompPrincipal(USER_ID, "user@test.com", Role.USER, "user"));
+
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SEND);
+        accessor.setSessionId("session-1");
+        accessor.setDestination(destination);
+        accessor.setSessionAttributes(sessionAttributes);
+        return MessageBuilder.createMessage(PAYLOAD, accessor.getMessageHeaders());
+    }
+
+    // 조회 메서드는 모두 같은 값을 반환하는 저장소
+    private static <T> T stub(Class<T> type, Object result) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> method.getReturnType() == Optional.class ? result : null));
+    }
+}
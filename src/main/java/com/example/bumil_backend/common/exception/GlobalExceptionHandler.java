@@ -57,6 +57,13 @@ public class GlobalExceptionHandler {
         return ApiResponse.fail(e.getMessage(), HttpStatus.CONFLICT);
     }
 
+    //요청이 너무 많거나 처리 대기열이 가득 찼을 때
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ApiResponse<Void>> handleTooManyRequestsException(TooManyRequestsException e){
+        System.out.println(e.getMessage());
+        return ApiResponse.fail(e.getMessage(), HttpStatus.TOO_MANY_REQUESTS);
+    }
+
     //요청 값이 올바르지 않을 때
     @ExceptionHandler(BadRequestException.class)
     public ResponseEntity<ApiResponse<String>> handleBadRequestException(BadRequestException e) {
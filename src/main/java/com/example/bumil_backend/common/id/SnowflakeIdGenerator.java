@@ -0,0 +1,59 @@
+package com.example.bumil_backend.common.id;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 64비트 시간 순 ID (41비트 밀리초 | 10비트 노드 | 12비트 시퀀스)
+// DB 왕복 없이 저장 전에 발급, 노드 안에서는 항상 증가
+// 2^53을 넘으므로 JSON으로 내보낼 때는 문자열로 (ChatMessageDto.messageId)
+@Component
+public class SnowflakeIdGenerator {
+
+    // 2025-01-01T00:00:00Z
+    private static final long EPOCH = 1735689600000L;
+
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private final long nodeId;
+    private long lastTimestamp = -1L;
+    private long sequence = 0L;
+
+    // 여러 노드(websocket.broker.mode=relay)에서는 노드마다 다른 node-id를 반드시 지정 (같으면 ID가 겹침)
+    public SnowflakeIdGenerator(
+            @Value("${id.snowflake.node-id:#{null}}") Long nodeId,
+            @Value("${websocket.broker.mode:simple}") String brokerMode
+    ) {
+        if (nodeId == null && "relay".equalsIgnoreCase(brokerMode)) {
+            throw new IllegalStateException("websocket.broker.mode=relay (다중 노드)에서는 id.snowflake.node-id를 노드마다 지정해야 합니다.");
+        }
+
+        long resolved = (nodeId == null) ? 0 : nodeId;
+        if (resolved < 0 || resolved > MAX_NODE_ID) {
+            throw new IllegalArgumentException("id.snowflake.node-id는 0 ~ " + MAX_NODE_ID + " 사이여야 합니다.");
+        }
+        this.nodeId = resolved;
+    }
+
+    public synchronized long nextId() {
+        // 시계가 뒤로 가도 마지막 시각을 기준으로 이어서 발급 (단조 증가 유지)
+        long timestamp = Math.max(System.currentTimeMillis() - EPOCH, lastTimestamp);
+
+        if (timestamp == lastTimestamp) {
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+            if (sequence == 0) {
+                // 같은 밀리초에 시퀀스를 다 쓰면 다음 밀리초를 미리 사용
+                timestamp = lastTimestamp + 1;
+            }
+        } else {
+            sequence = 0L;
+        }
+
+        lastTimestamp = timestamp;
+        return (timestamp << (NODE_BITS + SEQUENCE_BITS))
+                | (nodeId << SEQUENCE_BITS)
+                | sequence;
+    }
+}
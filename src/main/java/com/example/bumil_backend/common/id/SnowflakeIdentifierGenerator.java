@@ -0,0 +1,38 @@
+package com.example.bumil_backend.common.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+import org.springframework.context.annotation.Scope;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumSet;
+
+// @SnowflakeId 필드에 INSERT 전 ID 발급
+// Hibernate가 스프링 BeanContainer로 생성 (hibernate.cdi.extensions, JpaBatchConfig), 생성기 인스턴스는 식별자 필드마다 하나
+@Component
+@Scope("prototype")
+public class SnowflakeIdentifierGenerator implements BeforeExecutionGenerator {
+
+    private final SnowflakeIdGenerator snowflakeIdGenerator;
+
+    public SnowflakeIdentifierGenerator(SnowflakeIdGenerator snowflakeIdGenerator) {
+        this.snowflakeIdGenerator = snowflakeIdGenerator;
+    }
+
+    @Override
+    public Object generate(
+            SharedSessionContractImplementor session,
+            Object owner,
+            Object currentValue,
+            EventType eventType
+    ) {
+        return snowflakeIdGenerator.nextId();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.bumil_backend.config;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.node.ArrayNode;
+import tools.jackson.databind.node.JsonNodeFactory;
+import tools.jackson.databind.node.ObjectNode;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// CBOR 세션용 짧은 필드 이름 (클라이언트도 같은 표 사용, 표에 없는 필드는 그대로 전달)
+// 값은 앱 ObjectMapper가 만든 트리 그대로이므로 날짜/ID 형식 등은 JSON 세션과 동일
+public final class CborKeys {
+
+    public static final Map<String, String> SHORT_NAMES = Map.ofEntries(
+            Map.entry("messageId", "i"),
+            Map.entry("seq", "q"),
+            Map.entry("message", "m"),
+            Map.entry("deleted", "d"),
+            Map.entry("sender", "s"),
+            Map.entry("senderName", "n"),
+            Map.entry("createdAt", "t"),
+            Map.entry("chatRoomId", "r"),
+            Map.entry("userId", "u"),
+            Map.entry("name", "nm"),
+            Map.entry("lastReadSeq", "l"),
+            Map.entry("receipts", "rc"),
+            Map.entry("online", "o"),
+            Map.entry("typing", "ty")
+    );
+
+    private static final Map<String, String> FULL_NAMES = reverse(SHORT_NAMES);
+
+    private CborKeys() {
+    }
+
+    // 전송용: 표에 있는 필드 이름을 짧은 이름으로
+    public static JsonNode compact(JsonNode node) {
+        return rename(node, SHORT_NAMES);
+    }
+
+    // 수신용: 짧은 이름으로 보낸 필드를 원래 이름으로 (원래 이름으로 보낸 필드는 그대로)
+    public static JsonNode expand(JsonNode node) {
+        return rename(node, FULL_NAMES);
+    }
+
+    private static JsonNode rename(JsonNode node, Map<String, String> names) {
+        if (node.isObject()) {
+            ObjectNode renamed = JsonNodeFactory.instance.objectNode();
+            for (Map.Entry<String, JsonNode> property : node.properties()) {
+                renamed.set(names.getOrDefault(property.getKey(), property.getKey()), rename(property.getValue(), names));
+            }
+            return renamed;
+        }
+
+        if (node.isArray()) {
+            ArrayNode renamed = JsonNodeFactory.instance.arrayNode(node.size());
+            for (JsonNode element : node) {
+                renamed.add(rename(element, names));
+            }
+            return renamed;
+        }
+
+        return node;
+    }
+
+    private static Map<String, String> reverse(Map<String, String> names) {
+        Map<String, String> reversed = new HashMap<>();
+        names.forEach((fullName, shortName) -> reversed.put(shortName, fullName));
+        return Map.copyOf(reversed);
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.bumil_backend.config;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.converter.AbstractMessageConverter;
+import org.springframework.util.MimeType;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+
+// content-type: application/cbor 인 STOMP SEND payload <-> 객체
+// content-type이 없는 메시지는 기존 JSON 변환기가 처리하도록 엄격하게 일치할 때만 사용
+// CBOR는 트리로만 읽고 쓰며, 객체 변환은 앱 ObjectMapper가 담당 (JSON과 같은 설정 적용)
+public class CborMessageConverter extends AbstractMessageConverter {
+
+    public static final MimeType APPLICATION_CBOR = new MimeType("application", "cbor");
+
+    private final CBORMapper cborMapper;
+    private final ObjectMapper objectMapper;
+
+    public CborMessageConverter(CBORMapper cborMapper, ObjectMapper objectMapper) {
+        super(APPLICATION_CBOR);
+        this.cborMapper = cborMapper;
+        this.objectMapper = objectMapper;
+        setStrictContentTypeMatch(true);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return true;
+    }
+
+    @Override
+    protected Object convertFromInternal(Message<?> message, Class<?> targetClass, Object conversionHint) {
+        if (!(message.getPayload() instanceof byte[] payload)) {
+            return null;
+        }
+        return objectMapper.treeToValue(CborKeys.expand(cborMapper.readTree(payload)), targetClass);
+    }
+
+    @Override
+    protected Object convertToInternal(Object payload, MessageHeaders headers, Object conversionHint) {
+        return cborMapper.writeValueAsBytes(CborKeys.compact(objectMapper.valueToTree(payload)));
+    }
+}
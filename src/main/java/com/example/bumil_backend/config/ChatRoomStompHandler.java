@@ -1,12 +1,8 @@
 package com.example.bumil_backend.config;
 
 import com.example.bumil_backend.common.exception.*;
-import com.example.bumil_backend.entity.ChatRoom;
-import com.example.bumil_backend.entity.Users;
-import com.example.bumil_backend.enums.Role;
-import com.example.bumil_backend.repository.ChatRoomRepository;
-import com.example.bumil_backend.repository.UserRepository;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.bumil_backend.security.StompPrincipal;
+import com.example.bumil_backend.service.ChatRoomAccessCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
@@ -15,14 +11,18 @@ import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.ChannelInterceptor;
 import org.springframework.stereotype.Component;
 
+// 채팅방 단위 권한 확인 (CONNECT 인증은 JwtChannelInterceptor에서 처리)
 @Component
 @RequiredArgsConstructor
 public class ChatRoomStompHandler implements ChannelInterceptor {
 
-    private final ChatRoomRepository chatRoomRepository;
-    private final TokenProvider tokenProvider;
-    private final UserRepository userRepository;
+    private final ChatRoomAccessCache chatRoomAccessCache;
 
+    private static final String APP_PREFIX = "/pub/";
+    private static final String LEGACY_SEND_DESTINATION = "/pub/chat/send";
+    private static final String ROOM_PATH = "/chat/room/";
+    // 자기 세션으로만 전달되는 오류 알림 큐 (채팅방 권한 확인 대상 아님)
+    private static final String USER_ERROR_QUEUE = "/user" + StompRateLimitInterceptor.ERROR_DESTINATION;
 
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
@@ -30,86 +30,73 @@ public class ChatRoomStompHandler implements ChannelInterceptor {
         StompCommand command = accessor.getCommand();
         String destination = accessor.getDestination();
 
-        if (StompCommand.CONNECT.equals(command)) {
-            String token = accessor.getFirstNativeHeader("Authorization");
-            if (token == null || !token.startsWith("Bearer ")) {
-                throw new JwtAuthenticationException("토큰이 필요합니다.");
-            }
-
-            token = token.substring(7); // "Bearer " 제거
-
-            if (!tokenProvider.validateToken(token)) {
-                throw new JwtAuthenticationException("유효하지 않은 토큰입니다.");
-            }
-
-            String email = tokenProvider.extractEmail(token);
-            Users user = userRepository.findByEmailAndIsDeletedFalse(email)
-                    .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다."));
-
-            // 세션에 user 저장
-            accessor.getSessionAttributes().put("user", user);
-
-            return message;
-        }
-
         if (destination == null) {
             return message;
         }
 
-        if (StompCommand.SUBSCRIBE.equals(command)) {
+        if (StompCommand.SUBSCRIBE.equals(command) && !destination.equals(USER_ERROR_QUEUE)) {
             Long chatRoomId = extractRoomId(destination);
-            Users user = (Users) accessor.getSessionAttributes().get("user");
-            validateChatAccess(chatRoomId, user);
+            validateChatAccess(chatRoomId, sessionPrincipal(accessor));
         }
 
         if (StompCommand.SEND.equals(command)) {
-            String payload = new String((byte[]) message.getPayload());
-            Long chatRoomId;
-            try {
-                chatRoomId = new ObjectMapper().readTree(payload).get("roomId").asLong();
-            } catch (Exception e) {
-                throw new IllegalArgumentException("SEND 메시지에 roomId가 필요합니다.");
-            }
-
-            Users user = (Users) accessor.getSessionAttributes().get("user");
-            validateChatAccess(chatRoomId, user);
+            validateSend(destination, sessionPrincipal(accessor));
         }
 
         return message;
     }
 
-    private void validateChatAccess(Long chatRoomId, Users user) {
-
+    // 모든 SEND 확인: 클라이언트는 /pub 경로로만 전송 가능 (/sub 등 브로커 경로로 직접 보내면 구독자에게 그대로 전달되므로 거부)
+    private void validateSend(String destination, StompPrincipal user) {
         if (user == null) {
             throw new NotLoggedInException("로그인이 필요합니다.");
         }
 
-        ChatRoom chatRoom = chatRoomRepository.findById(chatRoomId)
-                .orElseThrow(() ->
-                        new ResourceNotFoundException("채팅방을 찾을 수 없습니다.")
-                );
+        if (!destination.startsWith(APP_PREFIX)) {
+            throw new NotAcceptableUserException("전송할 수 없는 경로입니다.");
+        }
+
+        // 기존 /pub/chat/send 는 MessageService에서 역직렬화된 roomId로 권한 확인
+        if (destination.equals(LEGACY_SEND_DESTINATION)) {
+            return;
+        }
 
-        if (chatRoom.isDeleted()) {
-            throw new ResourceNotFoundException("삭제된 채팅방입니다.");
+        // roomId는 목적지에서 읽음 (payload는 인터셉터에서 역직렬화하지 않음)
+        if (!destination.contains(ROOM_PATH)) {
+            throw new NotAcceptableUserException("전송할 수 없는 경로입니다.");
         }
+        validateChatAccess(extractRoomId(destination), user);
+    }
 
-        boolean isAuthor =
-                chatRoom.getAuthor().getId().equals(user.getId());
+    private StompPrincipal sessionPrincipal(StompHeaderAccessor accessor) {
+        Object saved = accessor.getSessionAttributes().get(StompPrincipal.SESSION_KEY);
+        return (saved instanceof StompPrincipal principal) ? principal : null;
+    }
 
-        boolean isAdmin =
-                user.getRole() == Role.ADMIN;
+    private void validateChatAccess(Long chatRoomId, StompPrincipal user) {
 
-        if (!isAuthor && !isAdmin) {
-            throw new NotAcceptableUserException("해당 채팅방에 대한 권한이 없습니다.");
+        if (user == null) {
+            throw new NotLoggedInException("로그인이 필요합니다.");
         }
+
+        // 작성자 or 관리자 (SUBSCRIBE/SEND 마다 DB 조회하지 않도록 캐시)
+        chatRoomAccessCache.checkAccess(user.id(), chatRoomId);
     }
 
 
+    // .../chat/room/{roomId}[/...] 형태면 roomId 위치를, 아니면 마지막 경로를 사용
     private Long extractRoomId(String destination) {
         try {
-            return Long.parseLong(
-                    destination.substring(destination.lastIndexOf("/") + 1)
-            );
+            int start = destination.indexOf(ROOM_PATH);
+            if (start < 0) {
+                return Long.parseLong(
+                        destination.substring(destination.lastIndexOf("/") + 1)
+                );
+            }
+
+            start += ROOM_PATH.length();
+            int end = destination.indexOf('/', start);
+            return Long.parseLong(end < 0 ? destination.substring(start) : destination.substring(start, end));
         } catch (Exception e) {
             throw new IllegalArgumentException("잘못된 채팅방 경로입니다.");
         }
@@ -0,0 +1,27 @@
+package com.example.bumil_backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// INSERT 배치 (IDENTITY가 아닌 엔티티만 해당, spring.jpa.properties 설정이 있으면 그 값 우선)
+@Configuration
+public class JpaBatchConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchCustomizer(
+            @Value("${jpa.jdbc.batch-size:50}") int batchSize
+    ) {
+        return properties -> {
+            properties.putIfAbsent("hibernate.jdbc.batch_size", batchSize);
+            properties.putIfAbsent("hibernate.order_inserts", true);
+        };
+    }
+
+    // @SnowflakeId 같은 식별자 생성기도 스프링 빈 컨테이너에서 생성 (생성자 주입, 정적 싱글턴 불필요)
+    @Bean
+    public HibernatePropertiesCustomizer beanContainerCustomizer() {
+        return properties -> properties.putIfAbsent("hibernate.cdi.extensions", true);
+    }
+}
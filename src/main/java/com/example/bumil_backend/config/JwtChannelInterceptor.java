@@ -1,7 +1,10 @@
 package com.example.bumil_backend.config;
 
 import com.example.bumil_backend.common.exception.JwtAuthenticationException;
-import com.example.bumil_backend.common.exception.JwtTokenNotFoundException;
+import com.example.bumil_backend.enums.Role;
+import com.example.bumil_backend.security.StompPrincipal;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
@@ -9,18 +12,15 @@ import org.springframework.messaging.simp.stomp.StompCommand;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.ChannelInterceptor;
 import org.springframework.security.access.AccessDeniedException;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
 import java.security.Principal;
 
 
+// STOMP 인증 (CONNECT 시 토큰을 한 번만 검증하고 클레임으로 세션 사용자 생성)
 @Component
 @RequiredArgsConstructor
 public class JwtChannelInterceptor implements ChannelInterceptor {
     private final TokenProvider tokenProvider;
-    private final UserDetailsService userDetailsService;
 
     private static final String AUTH_HEADER = "Authorization";
     private static final String BEARER_PREFIX = "Bearer ";
@@ -33,25 +33,21 @@ public class JwtChannelInterceptor implements ChannelInterceptor {
         if (StompCommand.CONNECT.equals(accessor.getCommand())) {
             String token = extractToken(accessor);
 
-            if (token == null || !tokenProvider.validateToken(token)) {
-                throw new JwtAuthenticationException("유효하지 않은 토큰입니다.");
+            if (token == null) {
+                throw new JwtAuthenticationException("토큰이 필요합니다.");
             }
 
-            String username = tokenProvider.extractEmail(token);
-            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-
-            UsernamePasswordAuthenticationToken authentication =
-                    new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+            StompPrincipal principal = toPrincipal(token);
 
-            accessor.setUser(authentication);
-            accessor.getSessionAttributes().put("userPrincipal", authentication);
+            accessor.setUser(principal);
+            accessor.getSessionAttributes().put(StompPrincipal.SESSION_KEY, principal);
         }
 
         if (StompCommand.SEND.equals(accessor.getCommand()) ||
                 StompCommand.SUBSCRIBE.equals(accessor.getCommand())) {
 
             if (accessor.getUser() == null) {
-                Object saved = accessor.getSessionAttributes().get("userPrincipal");
+                Object saved = accessor.getSessionAttributes().get(StompPrincipal.SESSION_KEY);
                 if (saved instanceof Principal savedUser) {
                     accessor.setUser(savedUser);
                 }
@@ -66,6 +62,28 @@ public class JwtChannelInterceptor implements ChannelInterceptor {
         return message;
     }
 
+    // 탈퇴/권한 변경은 ChatRoomAccessCache에서 DB 기준으로 판단
+    private StompPrincipal toPrincipal(String token) {
+        try {
+            Claims claims = tokenProvider.extractClaims(token);
+            Long id = claims.get("id", Long.class);
+            String role = claims.get("role", String.class);
+
+            if (id == null || role == null) {
+                throw new JwtAuthenticationException("유효하지 않은 토큰입니다.");
+            }
+
+            return new StompPrincipal(
+                    id,
+                    claims.getSubject(),
+                    Role.valueOf(role),
+                    claims.get("name", String.class)
+            );
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new JwtAuthenticationException("유효하지 않은 토큰입니다.");
+        }
+    }
+
     private String extractToken(StompHeaderAccessor accessor) {
         String authHeader = accessor.getFirstNativeHeader(AUTH_HEADER);
         if (authHeader != null && authHeader.startsWith(BEARER_PREFIX)) {
@@ -75,5 +93,3 @@ public class JwtChannelInterceptor implements ChannelInterceptor {
 
     }
 }
-
-
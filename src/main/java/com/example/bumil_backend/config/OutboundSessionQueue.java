@@ -0,0 +1,176 @@
+package com.example.bumil_backend.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.util.Queue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 세션별 전송 대기열 (느린 클라이언트가 outbound 스레드와 메모리를 붙잡지 않도록)
+// 한 스레드만 실제 전송하고 나머지는 대기열에 넣고 바로 반환
+// 대기열 바이트 상한 초과 시 정책에 따라 오래된 프레임 제거 또는 연결 종료, 전송 하나가 시간 상한을 넘기면 연결 종료
+@Slf4j
+public class OutboundSessionQueue extends WebSocketSessionDecorator {
+
+    public enum OverflowPolicy {
+        DROP_OLDEST,  // 오래된 프레임부터 제거 (클라이언트는 since 재동기화로 복구)
+        DISCONNECT    // 연결 종료
+    }
+
+    private final int sendTimeLimit;
+    private final int bufferSizeLimit;
+    private final OverflowPolicy overflowPolicy;
+
+    private final Queue<WebSocketMessage<?>> buffer = new LinkedBlockingQueue<>();
+    private final AtomicInteger bufferSize = new AtomicInteger();
+    private final LongAdder sentFrames = new LongAdder();
+    private final LongAdder droppedFrames = new LongAdder();
+
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final ReentrantLock overflowLock = new ReentrantLock();
+
+    // 진행 중인 전송 시작 시각 (0이면 전송 중 아님)
+    private volatile long sendStartTime;
+    private volatile boolean closing;
+
+    public OutboundSessionQueue(
+            WebSocketSession delegate,
+            int sendTimeLimit,
+            int bufferSizeLimit,
+            OverflowPolicy overflowPolicy
+    ) {
+        super(delegate);
+        this.sendTimeLimit = sendTimeLimit;
+        this.bufferSizeLimit = bufferSizeLimit;
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    public int getBufferedMessages() {
+        return buffer.size();
+    }
+
+    public int getBufferedBytes() {
+        return bufferSize.get();
+    }
+
+    public long getSentFrames() {
+        return sentFrames.sum();
+    }
+
+    public long getDroppedFrames() {
+        return droppedFrames.sum();
+    }
+
+    // 현재 전송이 걸려 있는 시간 (ms)
+    public long getSendTimeMillis() {
+        long start = sendStartTime;
+        return (start > 0) ? System.currentTimeMillis() - start : 0;
+    }
+
+    @Override
+    public void sendMessage(WebSocketMessage<?> message) throws IOException {
+        if (closing || !isOpen()) {
+            return;
+        }
+
+        buffer.add(message);
+        bufferSize.addAndGet(message.getPayloadLength());
+
+        do {
+            if (!tryFlush()) {
+                // 다른 스레드가 전송 중 -> 상한만 확인하고 반환
+                checkLimits();
+                break;
+            }
+        } while (!buffer.isEmpty() && !closing);
+    }
+
+    private boolean tryFlush() throws IOException {
+        if (!flushLock.tryLock()) {
+            return false;
+        }
+
+        try {
+            while (!closing) {
+                WebSocketMessage<?> message = buffer.poll();
+                if (message == null) {
+                    break;
+                }
+                bufferSize.addAndGet(-message.getPayloadLength());
+
+                sendStartTime = System.currentTimeMillis();
+                getDelegate().sendMessage(message);
+                sendStartTime = 0;
+                sentFrames.increment();
+            }
+        } finally {
+            sendStartTime = 0;
+            flushLock.unlock();
+        }
+        return true;
+    }
+
+    private void checkLimits() {
+        if (!overflowLock.tryLock()) {
+            return;
+        }
+
+        try {
+            if (closing) {
+                return;
+            }
+
+            long sendTime = getSendTimeMillis();
+            if (sendTime > sendTimeLimit) {
+                disconnect("전송 시간 상한 초과 (" + sendTime + "ms)");
+                return;
+            }
+
+            if (bufferSize.get() <= bufferSizeLimit) {
+                return;
+            }
+
+            if (overflowPolicy == OverflowPolicy.DISCONNECT) {
+                disconnect("전송 대기열 상한 초과 (" + bufferSize.get() + " bytes)");
+                return;
+            }
+
+            while (bufferSize.get() > bufferSizeLimit) {
+                WebSocketMessage<?> dropped = buffer.poll();
+                if (dropped == null) {
+                    break;
+                }
+                bufferSize.addAndGet(-dropped.getPayloadLength());
+                droppedFrames.increment();
+            }
+        } finally {
+            overflowLock.unlock();
+        }
+    }
+
+    private void disconnect(String reason) {
+        closing = true;
+        buffer.clear();
+        bufferSize.set(0);
+
+        log.warn("느린 WebSocket 세션 종료: sessionId={}, {}", getId(), reason);
+        try {
+            getDelegate().close(CloseStatus.SESSION_NOT_RELIABLE);
+        } catch (IOException e) {
+            log.debug("세션 종료 실패: sessionId={}", getId(), e);
+        }
+    }
+
+    @Override
+    public void close(CloseStatus status) throws IOException {
+        closing = true;
+        super.close(status);
+    }
+}
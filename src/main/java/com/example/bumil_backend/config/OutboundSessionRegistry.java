@@ -0,0 +1,77 @@
+package com.example.bumil_backend.config;
+
+import com.example.bumil_backend.dto.websocket.response.SessionQueueStatsResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.security.Principal;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 연결마다 세션을 OutboundSessionQueue로 감싸고, 세션별 대기열 통계 제공
+// OutboundSubProtocolWebSocketHandler가 Spring 기본 ConcurrentWebSocketSessionDecorator 대신 이 대기열을 가장 바깥에 씌움
+@Component
+public class OutboundSessionRegistry {
+
+    private final int sendTimeLimit;
+    private final int sendBufferSizeLimit;
+    private final OutboundSessionQueue.OverflowPolicy overflowPolicy;
+
+    private final ConcurrentHashMap<String, OutboundSessionQueue> sessions = new ConcurrentHashMap<>();
+
+    public OutboundSessionRegistry(
+            @Value("${websocket.transport.send-time-limit-ms:10000}") int sendTimeLimit,
+            @Value("${websocket.transport.send-buffer-size-limit:524288}") int sendBufferSizeLimit,
+            // drop-oldest | disconnect
+            @Value("${websocket.transport.overflow-policy:drop-oldest}") String overflowPolicy
+    ) {
+        this.sendTimeLimit = sendTimeLimit;
+        this.sendBufferSizeLimit = sendBufferSizeLimit;
+        this.overflowPolicy = OutboundSessionQueue.OverflowPolicy.valueOf(
+                overflowPolicy.trim().replace('-', '_').toUpperCase(Locale.ROOT));
+    }
+
+    public int getSendTimeLimit() {
+        return sendTimeLimit;
+    }
+
+    public int getSendBufferSizeLimit() {
+        return sendBufferSizeLimit;
+    }
+
+    public OutboundSessionQueue register(WebSocketSession session) {
+        OutboundSessionQueue queue =
+                new OutboundSessionQueue(session, sendTimeLimit, sendBufferSizeLimit, overflowPolicy);
+        sessions.put(session.getId(), queue);
+        return queue;
+    }
+
+    public void unregister(String sessionId) {
+        sessions.remove(sessionId);
+    }
+
+    // 대기열이 긴 세션부터
+    public List<SessionQueueStatsResponse> getStats() {
+        return sessions.values().stream()
+                .map(this::toStats)
+                .sorted(Comparator.comparingInt(SessionQueueStatsResponse::getBufferedBytes).reversed())
+                .toList();
+    }
+
+    private SessionQueueStatsResponse toStats(OutboundSessionQueue queue) {
+        Principal principal = queue.getPrincipal();
+
+        return SessionQueueStatsResponse.builder()
+                .sessionId(queue.getId())
+                .user(principal != null ? principal.getName() : null)
+                .bufferedMessages(queue.getBufferedMessages())
+                .bufferedBytes(queue.getBufferedBytes())
+                .sendTimeMillis(queue.getSendTimeMillis())
+                .sentFrames(queue.getSentFrames())
+                .droppedFrames(queue.getDroppedFrames())
+                .build();
+    }
+}
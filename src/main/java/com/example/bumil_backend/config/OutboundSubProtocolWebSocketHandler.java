@@ -0,0 +1,35 @@
+package com.example.bumil_backend.config;
+
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.SubscribableChannel;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.messaging.SubProtocolWebSocketHandler;
+
+// 기본 구현은 세션을 ConcurrentWebSocketSessionDecorator로 감싸 자체 버퍼/종료 정책을 적용하므로
+// 그 바깥에 다른 대기열을 두면 실제 밀림은 Spring 버퍼에 쌓이고 DROP_OLDEST가 동작하지 않음
+// -> OutboundSessionQueue를 유일한(가장 바깥) 전송 래퍼로 사용
+public class OutboundSubProtocolWebSocketHandler extends SubProtocolWebSocketHandler {
+
+    private final OutboundSessionRegistry outboundSessionRegistry;
+
+    public OutboundSubProtocolWebSocketHandler(
+            MessageChannel clientInboundChannel,
+            SubscribableChannel clientOutboundChannel,
+            OutboundSessionRegistry outboundSessionRegistry
+    ) {
+        super(clientInboundChannel, clientOutboundChannel);
+        this.outboundSessionRegistry = outboundSessionRegistry;
+    }
+
+    @Override
+    protected WebSocketSession decorateSession(WebSocketSession session) {
+        return outboundSessionRegistry.register(session);
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+        outboundSessionRegistry.unregister(session.getId());
+        super.afterConnectionClosed(session, closeStatus);
+    }
+}
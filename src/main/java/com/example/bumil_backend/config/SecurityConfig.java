@@ -55,7 +55,7 @@ public class SecurityConfig {
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(
                         authorize -> authorize
-                                .requestMatchers("/api/auth/**", "/swagger-ui/**", "/v3/api-docs/**", "/ws-chat/**").permitAll()
+                                .requestMatchers("/api/auth/**", "/swagger-ui/**", "/v3/api-docs/**", "/ws-chat/**", "/ws-chat-native").permitAll()
                                 .anyRequest().authenticated()
                 )
                 .exceptionHandling(handling -> handling
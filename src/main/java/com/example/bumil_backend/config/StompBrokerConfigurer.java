@@ -0,0 +1,105 @@
+package com.example.bumil_backend.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.messaging.simp.config.StompBrokerRelayRegistration;
+import org.springframework.messaging.simp.stomp.StompReactorNettyCodec;
+import org.springframework.messaging.tcp.reactor.ReactorNettyTcpClient;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.tcp.TcpClient;
+
+import java.time.Duration;
+
+// 메시지 브로커 선택
+// simple: JVM 내부 브로커 (단일 노드)
+// relay : 외부 STOMP 브로커(ActiveMQ/Artemis/RabbitMQ 등) 중계, 여러 노드 간 구독자에게 전달
+@Slf4j
+@Component
+public class StompBrokerConfigurer {
+
+    // /sub: 채팅방 구독, /queue: 사용자별 큐 (/user/queue/... 로 구독, 예: StompRateLimitInterceptor.ERROR_DESTINATION)
+    private static final String[] BROKER_PREFIXES = {"/sub", "/queue"};
+
+    @Value("${websocket.broker.mode:simple}")
+    private String mode;
+
+    @Value("${websocket.broker.relay.host:localhost}")
+    private String relayHost;
+
+    @Value("${websocket.broker.relay.port:61613}")
+    private int relayPort;
+
+    @Value("${websocket.broker.relay.virtual-host:}")
+    private String virtualHost;
+
+    @Value("${websocket.broker.relay.client-login:guest}")
+    private String clientLogin;
+
+    @Value("${websocket.broker.relay.client-passcode:guest}")
+    private String clientPasscode;
+
+    @Value("${websocket.broker.relay.system-login:guest}")
+    private String systemLogin;
+
+    @Value("${websocket.broker.relay.system-passcode:guest}")
+    private String systemPasscode;
+
+    // 서버 <-> 브로커 시스템 연결 heartbeat (ms)
+    @Value("${websocket.broker.relay.system-heartbeat-send-interval:10000}")
+    private long systemHeartbeatSendInterval;
+
+    @Value("${websocket.broker.relay.system-heartbeat-receive-interval:10000}")
+    private long systemHeartbeatReceiveInterval;
+
+    // 릴레이 TCP 연결 풀 (클라이언트 세션마다 브로커 연결 1개 + 시스템 연결 1개)
+    @Value("${websocket.broker.relay.max-connections:1000}")
+    private int maxConnections;
+
+    @Value("${websocket.broker.relay.pending-acquire-timeout-ms:45000}")
+    private long pendingAcquireTimeoutMillis;
+
+    public void configure(MessageBrokerRegistry registry) {
+        if ("relay".equalsIgnoreCase(mode)) {
+            configureRelay(registry);
+            return;
+        }
+
+        if (!"simple".equalsIgnoreCase(mode)) {
+            throw new IllegalStateException("websocket.broker.mode는 simple 또는 relay 여야 합니다: " + mode);
+        }
+
+        registry.enableSimpleBroker(BROKER_PREFIXES); // 서버 -> 클라이언트
+    }
+
+    private void configureRelay(MessageBrokerRegistry registry) {
+        log.info("STOMP 브로커 릴레이 사용 {}:{}", relayHost, relayPort);
+
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("stomp-broker-relay")
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMillis))
+                .build();
+
+        ReactorNettyTcpClient<byte[]> tcpClient = new ReactorNettyTcpClient<>(
+                TcpClient.create(connectionProvider)
+                        .host(relayHost)
+                        .port(relayPort),
+                new StompReactorNettyCodec()
+        );
+
+        StompBrokerRelayRegistration relay = registry.enableStompBrokerRelay(BROKER_PREFIXES)
+                .setTcpClient(tcpClient)
+                .setClientLogin(clientLogin)
+                .setClientPasscode(clientPasscode)
+                .setSystemLogin(systemLogin)
+                .setSystemPasscode(systemPasscode)
+                .setSystemHeartbeatSendInterval(systemHeartbeatSendInterval)
+                .setSystemHeartbeatReceiveInterval(systemHeartbeatReceiveInterval);
+
+        if (StringUtils.hasText(virtualHost)) {
+            relay.setVirtualHost(virtualHost);
+        }
+    }
+}
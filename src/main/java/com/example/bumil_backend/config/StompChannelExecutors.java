@@ -0,0 +1,175 @@
+package com.example.bumil_backend.config;
+
+import com.example.bumil_backend.dto.websocket.response.ChannelExecutorStatsResponse;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+// STOMP inbound/outbound 채널 실행기
+// spring.threads.virtual.enabled=true 이면 가상 스레드 (Tomcat 요청 스레드도 같은 설정으로 전환됨)
+@Component
+public class StompChannelExecutors implements DisposableBean {
+
+    private final boolean virtualThreads;
+    private final ChannelExecutor inbound;
+    private final ChannelExecutor outbound;
+
+    public StompChannelExecutors(
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+            // 가상 스레드 동시 실행 상한 (초과 시 제출 측 대기, -1이면 제한 없음)
+            @Value("${websocket.channel.virtual.concurrency-limit:-1}") int virtualConcurrencyLimit,
+            // 플랫폼 스레드 풀 (0 이하이면 CPU 코어 수 * 2)
+            @Value("${websocket.channel.inbound.core-pool-size:0}") int inboundCorePoolSize,
+            @Value("${websocket.channel.inbound.max-pool-size:2147483647}") int inboundMaxPoolSize,
+            @Value("${websocket.channel.inbound.queue-capacity:2147483647}") int inboundQueueCapacity,
+            @Value("${websocket.channel.outbound.core-pool-size:0}") int outboundCorePoolSize,
+            @Value("${websocket.channel.outbound.max-pool-size:2147483647}") int outboundMaxPoolSize,
+            @Value("${websocket.channel.outbound.queue-capacity:2147483647}") int outboundQueueCapacity
+    ) {
+        this.virtualThreads = virtualThreads;
+
+        if (virtualThreads) {
+            this.inbound = new VirtualChannelExecutor("inbound", "ws-inbound-", virtualConcurrencyLimit);
+            this.outbound = new VirtualChannelExecutor("outbound", "ws-outbound-", virtualConcurrencyLimit);
+        } else {
+            this.inbound = new PooledChannelExecutor(
+                    "inbound", "ws-inbound-", inboundCorePoolSize, inboundMaxPoolSize, inboundQueueCapacity);
+            this.outbound = new PooledChannelExecutor(
+                    "outbound", "ws-outbound-", outboundCorePoolSize, outboundMaxPoolSize, outboundQueueCapacity);
+        }
+    }
+
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    public TaskExecutor getInbound() {
+        return inbound.executor();
+    }
+
+    public TaskExecutor getOutbound() {
+        return outbound.executor();
+    }
+
+    public List<ChannelExecutorStatsResponse> getStats() {
+        return List.of(inbound.stats(), outbound.stats());
+    }
+
+    @Override
+    public void destroy() {
+        inbound.shutdown();
+        outbound.shutdown();
+    }
+
+    private interface ChannelExecutor {
+        TaskExecutor executor();
+
+        ChannelExecutorStatsResponse stats();
+
+        void shutdown();
+    }
+
+    private static final class PooledChannelExecutor implements ChannelExecutor {
+
+        private final String channel;
+        private final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+        private PooledChannelExecutor(String channel, String threadNamePrefix,
+                                      int corePoolSize, int maxPoolSize, int queueCapacity) {
+            int core = corePoolSize > 0 ? corePoolSize : Runtime.getRuntime().availableProcessors() * 2;
+
+            this.channel = channel;
+            executor.setThreadNamePrefix(threadNamePrefix);
+            executor.setCorePoolSize(core);
+            executor.setMaxPoolSize(Math.max(core, maxPoolSize));
+            executor.setQueueCapacity(queueCapacity);
+            executor.setKeepAliveSeconds(60);
+            executor.setAllowCoreThreadTimeOut(true);
+            executor.initialize();
+        }
+
+        @Override
+        public TaskExecutor executor() {
+            return executor;
+        }
+
+        @Override
+        public ChannelExecutorStatsResponse stats() {
+            var pool = executor.getThreadPoolExecutor();
+            return ChannelExecutorStatsResponse.builder()
+                    .channel(channel)
+                    .virtualThreads(false)
+                    .activeCount(pool.getActiveCount())
+                    .poolSize(pool.getPoolSize())
+                    .maxPoolSize(pool.getMaximumPoolSize())
+                    .queueSize(pool.getQueue().size())
+                    .completedTasks(pool.getCompletedTaskCount())
+                    .build();
+        }
+
+        @Override
+        public void shutdown() {
+            executor.shutdown();
+        }
+    }
+
+    // 가상 스레드는 풀/큐가 없으므로 실행 중/완료 작업 수만 집계
+    private static final class VirtualChannelExecutor implements ChannelExecutor {
+
+        private final String channel;
+        private final int concurrencyLimit;
+        private final SimpleAsyncTaskExecutor executor;
+        private final AtomicInteger active = new AtomicInteger();
+        private final LongAdder completed = new LongAdder();
+
+        private VirtualChannelExecutor(String channel, String threadNamePrefix, int concurrencyLimit) {
+            this.channel = channel;
+            this.concurrencyLimit = concurrencyLimit;
+            this.executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+            executor.setVirtualThreads(true);
+            if (concurrencyLimit > 0) {
+                executor.setConcurrencyLimit(concurrencyLimit);
+            }
+            executor.setTaskDecorator(task -> () -> {
+                active.incrementAndGet();
+                try {
+                    task.run();
+                } finally {
+                    active.decrementAndGet();
+                    completed.increment();
+                }
+            });
+        }
+
+        @Override
+        public TaskExecutor executor() {
+            return executor;
+        }
+
+        @Override
+        public ChannelExecutorStatsResponse stats() {
+            int running = active.get();
+            return ChannelExecutorStatsResponse.builder()
+                    .channel(channel)
+                    .virtualThreads(true)
+                    .activeCount(running)
+                    .poolSize(running)
+                    .maxPoolSize(concurrencyLimit > 0 ? concurrencyLimit : Integer.MAX_VALUE)
+                    .queueSize(0)
+                    .completedTasks(completed.sum())
+                    .build();
+        }
+
+        @Override
+        public void shutdown() {
+            executor.close();
+        }
+    }
+}
@@ -0,0 +1,276 @@
+package com.example.bumil_backend.config;
+
+import com.example.bumil_backend.dto.websocket.response.RateLimitStatsResponse;
+import com.example.bumil_backend.dto.websocket.response.StompErrorResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.security.Principal;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// STOMP SEND 전송 속도 제한 (세션별 + 사용자별 토큰 버킷, 경로 종류별로 버킷 분리)
+// chat: 메시지 전송, signal: 입력 중/읽음 표시 (자주 오지만 가벼움), other: 그 밖의 모든 SEND
+// 권한 확인(ChatRoomStompHandler)보다 먼저 실행되어 초과 프레임은 저장소 조회 없이 버림
+// ERROR 프레임을 보내면 대부분의 클라이언트가 연결을 끊으므로 프레임만 버리고 /user/queue/errors 로 알림 (세션당 notify-interval 마다 최대 1회)
+@Slf4j
+@Component
+public class StompRateLimitInterceptor implements ChannelInterceptor {
+
+    // 사용자별 오류 알림 큐 (클라이언트는 /user/queue/errors 구독)
+    public static final String ERROR_DESTINATION = "/queue/errors";
+
+    private static final String LEGACY_SEND_DESTINATION = "/pub/chat/send";
+    private static final String ROOM_DESTINATION_PREFIX = "/pub/chat/room/";
+
+    public enum Category {
+        CHAT, SIGNAL, OTHER
+    }
+
+    private final boolean enabled;
+    private final long notifyIntervalNanos;
+    private final ObjectProvider<SimpMessagingTemplate> messagingTemplate;
+
+    // [종류] -> 버킷 설정
+    private final BucketSpec[] sessionSpecs = new BucketSpec[Category.values().length];
+    private final BucketSpec[] userSpecs = new BucketSpec[Category.values().length];
+
+    private final ConcurrentHashMap<String, Buckets> sessionBuckets = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Buckets> userBuckets = new ConcurrentHashMap<>();
+
+    private final LongAdder allowedFrames = new LongAdder();
+    private final LongAdder rejectedBySession = new LongAdder();
+    private final LongAdder rejectedByUser = new LongAdder();
+    private final LongAdder[] rejectedByCategory = new LongAdder[Category.values().length];
+
+    public StompRateLimitInterceptor(
+            ObjectProvider<SimpMessagingTemplate> messagingTemplate,
+            @Value("${websocket.rate-limit.enabled:true}") boolean enabled,
+            @Value("${websocket.rate-limit.notify-interval-ms:1000}") long notifyIntervalMillis,
+            // burst: 연속으로 보낼 수 있는 최대 프레임 수, refill-per-second: 초당 회복량
+            @Value("${websocket.rate-limit.session.burst:20}") int sessionBurst,
+            @Value("${websocket.rate-limit.session.refill-per-second:5}") double sessionRefillPerSecond,
+            @Value("${websocket.rate-limit.user.burst:40}") int userBurst,
+            @Value("${websocket.rate-limit.user.refill-per-second:10}") double userRefillPerSecond,
+            @Value("${websocket.rate-limit.signal.session.burst:30}") int signalSessionBurst,
+            @Value("${websocket.rate-limit.signal.session.refill-per-second:10}") double signalSessionRefillPerSecond,
+            @Value("${websocket.rate-limit.signal.user.burst:60}") int signalUserBurst,
+            @Value("${websocket.rate-limit.signal.user.refill-per-second:20}") double signalUserRefillPerSecond,
+            @Value("${websocket.rate-limit.other.session.burst:10}") int otherSessionBurst,
+            @Value("${websocket.rate-limit.other.session.refill-per-second:2}") double otherSessionRefillPerSecond,
+            @Value("${websocket.rate-limit.other.user.burst:20}") int otherUserBurst,
+            @Value("${websocket.rate-limit.other.user.refill-per-second:4}") double otherUserRefillPerSecond
+    ) {
+        this.messagingTemplate = messagingTemplate;
+        this.enabled = enabled;
+        this.notifyIntervalNanos = TimeUnit.MILLISECONDS.toNanos(notifyIntervalMillis);
+
+        // chat 설정은 기존 session/user 키 그대로
+        sessionSpecs[Category.CHAT.ordinal()] = new BucketSpec(sessionBurst, sessionRefillPerSecond);
+        userSpecs[Category.CHAT.ordinal()] = new BucketSpec(userBurst, userRefillPerSecond);
+        sessionSpecs[Category.SIGNAL.ordinal()] = new BucketSpec(signalSessionBurst, signalSessionRefillPerSecond);
+        userSpecs[Category.SIGNAL.ordinal()] = new BucketSpec(signalUserBurst, signalUserRefillPerSecond);
+        sessionSpecs[Category.OTHER.ordinal()] = new BucketSpec(otherSessionBurst, otherSessionRefillPerSecond);
+        userSpecs[Category.OTHER.ordinal()] = new BucketSpec(otherUserBurst, otherUserRefillPerSecond);
+
+        Arrays.setAll(rejectedByCategory, i -> new LongAdder());
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (!enabled) {
+            return message;
+        }
+
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
+        if (!StompCommand.SEND.equals(accessor.getCommand())) {
+            return message;
+        }
+
+        // 경로와 관계없이 모든 SEND 제한 (/pub 외 경로도 권한 확인 전에 여기서 걸러짐)
+        String destination = accessor.getDestination();
+        Category category = categorize(destination);
+        long now = System.nanoTime();
+
+        String sessionId = accessor.getSessionId();
+        Buckets session = (sessionId != null) ? buckets(sessionBuckets, sessionId, sessionSpecs) : null;
+        if (session != null && !session.get(category).tryAcquire(now)) {
+            rejectedBySession.increment();
+            reject(accessor, session, category, destination, now);
+            return null;
+        }
+
+        // 같은 사용자가 여러 세션을 열어 제한을 우회하지 않도록 사용자 단위로도 확인
+        Principal user = accessor.getUser();
+        if (user != null && !buckets(userBuckets, user.getName(), userSpecs).get(category).tryAcquire(now)) {
+            rejectedByUser.increment();
+            reject(accessor, session, category, destination, now);
+            return null;
+        }
+
+        allowedFrames.increment();
+        return message;
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        sessionBuckets.remove(event.getSessionId());
+    }
+
+    // 가득 찬(한동안 보내지 않은) 사용자 버킷 제거, 다시 보내면 가득 찬 상태로 새로 생성되므로 동작은 같음
+    @Scheduled(fixedDelayString = "${websocket.rate-limit.sweep-interval-ms:60000}")
+    public void evictIdle() {
+        long now = System.nanoTime();
+        userBuckets.values().removeIf(buckets -> buckets.isFull(now));
+    }
+
+    public RateLimitStatsResponse getStats() {
+        Map<String, Long> byCategory = new LinkedHashMap<>();
+        for (Category category : Category.values()) {
+            byCategory.put(category.name().toLowerCase(Locale.ROOT), rejectedByCategory[category.ordinal()].sum());
+        }
+
+        return RateLimitStatsResponse.builder()
+                .enabled(enabled)
+                .sessionBuckets(sessionBuckets.size())
+                .userBuckets(userBuckets.size())
+                .allowedFrames(allowedFrames.sum())
+                .rejectedBySession(rejectedBySession.sum())
+                .rejectedByUser(rejectedByUser.sum())
+                .rejectedByCategory(byCategory)
+                .build();
+    }
+
+    // chat: /pub/chat/send, /pub/chat/room/{roomId} | signal: /pub/chat/room/{roomId}/typing, /read | 그 외 other
+    static Category categorize(String destination) {
+        if (destination == null) {
+            return Category.OTHER;
+        }
+        if (destination.equals(LEGACY_SEND_DESTINATION)) {
+            return Category.CHAT;
+        }
+        if (!destination.startsWith(ROOM_DESTINATION_PREFIX)) {
+            return Category.OTHER;
+        }
+
+        int slash = destination.indexOf('/', ROOM_DESTINATION_PREFIX.length());
+        if (slash < 0) {
+            return Category.CHAT;
+        }
+
+        String action = destination.substring(slash);
+        return (action.equals("/typing") || action.equals("/read")) ? Category.SIGNAL : Category.OTHER;
+    }
+
+    private void reject(StompHeaderAccessor accessor, Buckets session, Category category, String destination, long now) {
+        rejectedByCategory[category.ordinal()].increment();
+        log.debug("전송 속도 초과: sessionId={}, destination={}", accessor.getSessionId(), destination);
+
+        Principal user = accessor.getUser();
+        if (user == null || session == null || !session.tryNotify(now, notifyIntervalNanos)) {
+            return;
+        }
+
+        // 보낸 세션에만 전달 (같은 사용자의 다른 탭 제외)
+        SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        headers.setSessionId(accessor.getSessionId());
+        headers.setLeaveMutable(true);
+
+        StompErrorResponse error = StompErrorResponse.builder()
+                .code("RATE_LIMITED")
+                .message("전송 속도 제한을 초과했습니다. 잠시 후 다시 시도해주세요.")
+                .destination(destination)
+                .retryAfterMillis(TimeUnit.NANOSECONDS.toMillis(sessionSpecs[category.ordinal()].emissionIntervalNanos()))
+                .build();
+
+        messagingTemplate.getObject()
+                .convertAndSendToUser(user.getName(), ERROR_DESTINATION, error, headers.getMessageHeaders());
+    }
+
+    private Buckets buckets(ConcurrentHashMap<String, Buckets> buckets, String key, BucketSpec[] specs) {
+        Buckets existing = buckets.get(key);
+        return (existing != null) ? existing : buckets.computeIfAbsent(key, k -> new Buckets(specs));
+    }
+
+    // emissionInterval: 토큰 하나가 회복되는 시간, burstTolerance: 버킷이 빈 상태까지 허용되는 앞당김
+    private record BucketSpec(long emissionIntervalNanos, long burstToleranceNanos) {
+
+        private BucketSpec(int burst, double refillPerSecond) {
+            this((long) (TimeUnit.SECONDS.toNanos(1) / refillPerSecond),
+                    (long) (TimeUnit.SECONDS.toNanos(1) / refillPerSecond) * Math.max(burst - 1, 0));
+        }
+    }
+
+    // 세션(또는 사용자) 하나의 종류별 버킷
+    private static final class Buckets {
+        private final TokenBucket[] byCategory;
+        // 마지막 오류 알림 시각 (알림 폭주 방지)
+        private final AtomicLong lastNotified = new AtomicLong(Long.MIN_VALUE);
+
+        private Buckets(BucketSpec[] specs) {
+            this.byCategory = new TokenBucket[specs.length];
+            Arrays.setAll(byCategory, i -> new TokenBucket(specs[i]));
+        }
+
+        private TokenBucket get(Category category) {
+            return byCategory[category.ordinal()];
+        }
+
+        private boolean isFull(long now) {
+            return Arrays.stream(byCategory).allMatch(bucket -> bucket.isFull(now));
+        }
+
+        private boolean tryNotify(long now, long intervalNanos) {
+            long last = lastNotified.get();
+            return (last == Long.MIN_VALUE || now - last >= intervalNanos) && lastNotified.compareAndSet(last, now);
+        }
+    }
+
+    // 토큰 버킷과 동일한 GCRA: 다음 토큰이 준비되는 이론상 시각(TAT) 하나만 AtomicLong으로 CAS 갱신 (잠금 없음)
+    private static final class TokenBucket {
+        private final BucketSpec spec;
+        private final AtomicLong theoreticalArrival;
+
+        private TokenBucket(BucketSpec spec) {
+            this.spec = spec;
+            this.theoreticalArrival = new AtomicLong(System.nanoTime());
+        }
+
+        private boolean tryAcquire(long now) {
+            while (true) {
+                long tat = theoreticalArrival.get();
+                long start = Math.max(tat, now);
+
+                if (start - now > spec.burstToleranceNanos()) {
+                    return false;
+                }
+                if (theoreticalArrival.compareAndSet(tat, start + spec.emissionIntervalNanos())) {
+                    return true;
+                }
+            }
+        }
+
+        private boolean isFull(long now) {
+            return theoreticalArrival.get() <= now;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.bumil_backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 세션별 STOMP payload 형식 (JSON 기본, 협상 시 CBOR)
+// CONNECT 헤더 wire-format: cbor 로 요청, 바이너리 프레임을 보낼 수 있는 /ws-chat-native 연결에서만 허용 (SockJS는 텍스트 전용)
+// 브로드캐스트는 ChatBroadcaster가 CBOR도 한 번만 만들어 헤더로 붙이고, 여기서는 CBOR 세션의 payload만 교체
+// CBOR payload는 앱 ObjectMapper(Spring Boot 설정 반영)가 만든 트리를 짧은 필드 이름(CborKeys)으로 바꿔 인코딩
+// CBORMapper는 트리를 바이트로 쓰고 읽는 데만 사용하므로 직렬화 설정(@JsonFormat, naming, inclusion 등)은 JSON과 같음
+@Component
+public class StompWireFormat implements ChannelInterceptor {
+
+    // 브로드캐스트 메시지에 미리 인코딩한 CBOR payload를 담는 헤더 (STOMP 프레임에는 쓰이지 않음)
+    public static final String CBOR_PAYLOAD_HEADER = "cborPayload";
+
+    private static final String WIRE_FORMAT_HEADER = "wire-format";
+    private static final String CBOR = "cbor";
+    private static final String BINARY_CAPABLE_KEY = "binaryCapable";
+
+    private final boolean cborEnabled;
+    private final ObjectMapper objectMapper;
+    private final CBORMapper cborMapper = CBORMapper.builder().build();
+
+    // CBOR로 받기로 한 세션
+    private final Set<String> cborSessions = ConcurrentHashMap.newKeySet();
+
+    public StompWireFormat(
+            @Value("${websocket.wire-format.cbor.enabled:true}") boolean cborEnabled,
+            ObjectMapper objectMapper
+    ) {
+        this.cborEnabled = cborEnabled;
+        this.objectMapper = objectMapper;
+    }
+
+    public boolean isCborEnabled() {
+        return cborEnabled;
+    }
+
+    // CBOR 세션이 하나라도 있을 때만 브로드캐스트에서 CBOR를 미리 만듦
+    public boolean hasCborSessions() {
+        return !cborSessions.isEmpty();
+    }
+
+    public CborMessageConverter messageConverter() {
+        return new CborMessageConverter(cborMapper, objectMapper);
+    }
+
+    public byte[] encodeCbor(Object payload) {
+        return cborMapper.writeValueAsBytes(CborKeys.compact(objectMapper.valueToTree(payload)));
+    }
+
+    // /ws-chat-native 연결 표시
+    public HandshakeInterceptor binaryEndpointInterceptor() {
+        return new HandshakeInterceptor() {
+            @Override
+            public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                                           WebSocketHandler wsHandler, Map<String, Object> attributes) {
+                attributes.put(BINARY_CAPABLE_KEY, true);
+                return true;
+            }
+
+            @Override
+            public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                                       WebSocketHandler wsHandler, Exception exception) {
+            }
+        };
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        SimpMessageType messageType = SimpMessageHeaderAccessor.getMessageType(message.getHeaders());
+
+        if (messageType == SimpMessageType.CONNECT) {
+            negotiate(message);
+            return message;
+        }
+
+        if (messageType == SimpMessageType.MESSAGE) {
+            return encodeForSession(message);
+        }
+
+        return message;
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        cborSessions.remove(event.getSessionId());
+    }
+
+    private void negotiate(Message<?> message) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
+        String requested = accessor.getFirstNativeHeader(WIRE_FORMAT_HEADER);
+        Map<String, Object> attributes = accessor.getSessionAttributes();
+        boolean binaryCapable = attributes != null && Boolean.TRUE.equals(attributes.get(BINARY_CAPABLE_KEY));
+
+        if (cborEnabled && binaryCapable && CBOR.equalsIgnoreCase(requested)) {
+            cborSessions.add(accessor.getSessionId());
+        }
+    }
+
+    // JSON 세션은 그대로, CBOR 세션은 미리 인코딩된 payload 사용 (없으면 JSON -> CBOR 변환, 예: 외부 브로커 relay)
+    private Message<?> encodeForSession(Message<?> message) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        if (sessionId == null || !cborSessions.contains(sessionId)) {
+            return message;
+        }
+
+        if (!(message.getPayload() instanceof byte[] json) || !isJson(message)) {
+            return message;
+        }
+
+        byte[] cbor = (message.getHeaders().get(CBOR_PAYLOAD_HEADER) instanceof byte[] encoded)
+                ? encoded
+                : cborMapper.writeValueAsBytes(CborKeys.compact(objectMapper.readTree(json)));
+
+        // octet-stream이어야 STOMP 프레임이 바이너리 WebSocket 메시지로 전송됨, 실제 형식은 wire-format 헤더로 표시
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_OCTET_STREAM);
+        accessor.setNativeHeader(WIRE_FORMAT_HEADER, CBOR);
+        accessor.removeHeader(CBOR_PAYLOAD_HEADER);
+
+        return MessageBuilder.createMessage(cbor, accessor.getMessageHeaders());
+    }
+
+    private boolean isJson(Message<?> message) {
+        Object contentType = message.getHeaders().get(SimpMessageHeaderAccessor.CONTENT_TYPE);
+        return contentType != null && MimeTypeUtils.APPLICATION_JSON.isCompatibleWith(
+                MimeTypeUtils.parseMimeType(contentType.toString()));
+    }
+}
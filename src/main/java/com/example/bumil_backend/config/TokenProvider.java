@@ -1,5 +1,6 @@
 package com.example.bumil_backend.config;
 
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
@@ -91,6 +92,15 @@ public class TokenProvider {
                 .get("id", Long.class);
     }
 
+    //클레임 전체 추출 (한 번의 파싱으로 검증 + 조회)
+    public Claims extractClaims(String token) {
+        return Jwts.parser()
+                .verifyWith(this.key)
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+
     //토큰 유효성 검사
     public boolean validateToken(String token){
         try{
@@ -0,0 +1,27 @@
+package com.example.bumil_backend.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.support.AbstractSubscribableChannel;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.config.annotation.DelegatingWebSocketMessageBrokerConfiguration;
+
+// @EnableWebSocketMessageBroker 대신 직접 등록 (WebSocketConfig 등 WebSocketMessageBrokerConfigurer는 그대로 적용됨)
+// 세션 전송 래퍼를 OutboundSessionQueue로 바꾸기 위해 subProtocolWebSocketHandler만 교체
+@Configuration
+@RequiredArgsConstructor
+public class WebSocketBrokerConfiguration extends DelegatingWebSocketMessageBrokerConfiguration {
+
+    private final OutboundSessionRegistry outboundSessionRegistry;
+
+    @Bean
+    @Override
+    public WebSocketHandler subProtocolWebSocketHandler(
+            AbstractSubscribableChannel clientInboundChannel,
+            AbstractSubscribableChannel clientOutboundChannel
+    ) {
+        return new OutboundSubProtocolWebSocketHandler(
+                clientInboundChannel, clientOutboundChannel, outboundSessionRegistry);
+    }
+}
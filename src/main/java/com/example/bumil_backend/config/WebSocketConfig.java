@@ -2,43 +2,99 @@ package com.example.bumil_backend.config;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.converter.MessageConverter;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
-import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
+import java.util.List;
+
+// 메시지 브로커 등록은 WebSocketBrokerConfiguration
 @Configuration
-@EnableWebSocketMessageBroker
 @RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     private final JwtChannelInterceptor jwtChannelInterceptor;
     private final HttpHandshakeInterceptor httpHandshakeInterceptor;
+    private final StompChannelExecutors stompChannelExecutors;
+    private final StompBrokerConfigurer stompBrokerConfigurer;
+    private final OutboundSessionRegistry outboundSessionRegistry;
+    private final StompRateLimitInterceptor stompRateLimitInterceptor;
+    private final StompWireFormat stompWireFormat;
+
+    @Value("${websocket.transport.message-size-limit:65536}")
+    private int messageSizeLimit;
+
+    // permessage-deflate 압축 협상
+    @Value("${websocket.compression.enabled:true}")
+    private boolean compressionEnabled;
+
+    // 세션별 순서 보장 (inbound/outbound 실행기가 여러 스레드라도 같은 세션의 프레임은 보낸 순서대로 처리/전송)
+    @Value("${websocket.channel.preserve-order:true}")
+    private boolean preserveOrder;
 
     @Autowired
     private ApplicationContext applicationContext;
 
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
+        WebSocketHandshakeHandler handshakeHandler = new WebSocketHandshakeHandler(compressionEnabled);
+        registry.setPreserveReceiveOrder(preserveOrder); // 같은 세션의 SEND를 수신 순서대로 처리
+
         registry.addEndpoint("/ws-chat")
+                .setHandshakeHandler(handshakeHandler)
                 .addInterceptors(httpHandshakeInterceptor)
                 .setAllowedOriginPatterns("*")
                 .withSockJS();
+
+        // SockJS 없는 WebSocket 전용 (바이너리 프레임 가능, CONNECT 헤더 wire-format: cbor 로 CBOR 협상)
+        registry.addEndpoint("/ws-chat-native")
+                .setHandshakeHandler(handshakeHandler)
+                .addInterceptors(httpHandshakeInterceptor, stompWireFormat.binaryEndpointInterceptor())
+                .setAllowedOriginPatterns("*");
     }
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
         registry.setApplicationDestinationPrefixes("/pub"); // 클라이언트 -> 서버
-        registry.enableSimpleBroker("/sub"); // 서버 -> 클라이언트
+        registry.setPreservePublishOrder(preserveOrder); // 같은 세션으로 가는 MESSAGE를 발행 순서대로 전송
+        stompBrokerConfigurer.configure(registry); // 서버 -> 클라이언트 (websocket.broker.mode)
     }
 
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
         ChatRoomStompHandler chatRoomStompHandler =
                 applicationContext.getBean(ChatRoomStompHandler.class);
-        registration.interceptors(jwtChannelInterceptor, chatRoomStompHandler);
+        // 인증 -> 전송 속도 제한 -> 채팅방 권한 (초과 프레임은 권한 조회 전에 버림)
+        registration.interceptors(jwtChannelInterceptor, stompRateLimitInterceptor, chatRoomStompHandler, stompWireFormat);
+        registration.executor(stompChannelExecutors.getInbound());
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.executor(stompChannelExecutors.getOutbound());
+        registration.interceptors(stompWireFormat); // CBOR 세션은 payload 교체
+    }
+
+    // content-type: application/cbor 인 SEND payload 변환 (기존 변환기는 그대로 유지)
+    @Override
+    public boolean configureMessageConverters(List<MessageConverter> messageConverters) {
+        if (stompWireFormat.isCborEnabled()) {
+            messageConverters.add(stompWireFormat.messageConverter());
+        }
+        return true;
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setMessageSizeLimit(messageSizeLimit); // 수신 STOMP 메시지 크기 상한
+        // 세션별 전송 대기열은 OutboundSubProtocolWebSocketHandler가 적용, 값은 Spring 통계와 맞추기 위해 함께 설정
+        registration.setSendTimeLimit(outboundSessionRegistry.getSendTimeLimit());
+        registration.setSendBufferSizeLimit(outboundSessionRegistry.getSendBufferSizeLimit());
     }
 
 }
@@ -0,0 +1,38 @@
+package com.example.bumil_backend.config;
+
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.web.socket.WebSocketExtension;
+import org.springframework.web.socket.server.support.DefaultHandshakeHandler;
+
+import java.util.List;
+
+// permessage-deflate 협상 여부 (Tomcat은 클라이언트가 요청하면 기본으로 압축을 수락)
+// CPU가 병목이면 websocket.compression.enabled=false 로 끔
+public class WebSocketHandshakeHandler extends DefaultHandshakeHandler {
+
+    private static final String PERMESSAGE_DEFLATE = "permessage-deflate";
+
+    private final boolean compressionEnabled;
+
+    public WebSocketHandshakeHandler(boolean compressionEnabled) {
+        this.compressionEnabled = compressionEnabled;
+    }
+
+    @Override
+    protected List<WebSocketExtension> filterRequestedExtensions(
+            ServerHttpRequest request,
+            List<WebSocketExtension> requestedExtensions,
+            List<WebSocketExtension> supportedExtensions
+    ) {
+        List<WebSocketExtension> extensions =
+                super.filterRequestedExtensions(request, requestedExtensions, supportedExtensions);
+
+        if (compressionEnabled) {
+            return extensions;
+        }
+
+        return extensions.stream()
+                .filter(extension -> !PERMESSAGE_DEFLATE.equalsIgnoreCase(extension.getName()))
+                .toList();
+    }
+}
@@ -2,9 +2,13 @@ package com.example.bumil_backend.controller;
 
 import com.example.bumil_backend.common.ApiResponse;
 import com.example.bumil_backend.dto.chat.request.UserUpdateForAdminRequest;
+import com.example.bumil_backend.dto.chat.response.ChatListCacheStatsResponse;
 import com.example.bumil_backend.dto.chat.response.ChatListDto;
 import com.example.bumil_backend.dto.user.response.GetAllUsersResponse;
 import com.example.bumil_backend.dto.user.response.UserUpdateResponse;
+import com.example.bumil_backend.dto.websocket.response.ChannelExecutorStatsResponse;
+import com.example.bumil_backend.dto.websocket.response.RateLimitStatsResponse;
+import com.example.bumil_backend.dto.websocket.response.SessionQueueStatsResponse;
 import com.example.bumil_backend.enums.ChatTags;
 import com.example.bumil_backend.enums.DateFilter;
 import com.example.bumil_backend.service.AdminService;
@@ -58,4 +62,28 @@ public class AdminController {
         return ApiResponse.ok(adminService.getAllUsers(), "모든 유저 조회에 성공하였습니다.");
     }
 
-}
\ No newline at end of file
+    @GetMapping("/cache/chat-list")
+    @Operation(summary = "공개 채팅 목록 캐시 통계", description = "캐시 적중/미스/제거 횟수를 조회합니다.")
+    public ResponseEntity<ApiResponse<ChatListCacheStatsResponse>> getChatListCacheStats() {
+        return ApiResponse.ok(adminService.getChatListCacheStats(), "조회되었습니다.");
+    }
+
+    @GetMapping("/websocket/executors")
+    @Operation(summary = "WebSocket 채널 실행기 통계", description = "inbound/outbound 채널의 실행 중 작업 수, 풀 크기, 대기열 길이를 조회합니다.")
+    public ResponseEntity<ApiResponse<List<ChannelExecutorStatsResponse>>> getChannelExecutorStats() {
+        return ApiResponse.ok(adminService.getChannelExecutorStats(), "조회되었습니다.");
+    }
+
+    @GetMapping("/websocket/sessions")
+    @Operation(summary = "WebSocket 세션 전송 대기열 통계", description = "세션별 전송 대기 프레임 수/바이트, 진행 중인 전송 시간, 전송/제거된 프레임 수를 조회합니다.")
+    public ResponseEntity<ApiResponse<List<SessionQueueStatsResponse>>> getSessionQueueStats() {
+        return ApiResponse.ok(adminService.getSessionQueueStats(), "조회되었습니다.");
+    }
+
+    @GetMapping("/websocket/rate-limit")
+    @Operation(summary = "STOMP 전송 속도 제한 통계", description = "세션/사용자 버킷 수와 허용/거부된 SEND 프레임 수를 조회합니다.")
+    public ResponseEntity<ApiResponse<RateLimitStatsResponse>> getRateLimitStats() {
+        return ApiResponse.ok(adminService.getRateLimitStats(), "조회되었습니다.");
+    }
+
+}
@@ -35,21 +35,33 @@ public class ChatController {
     }
 
     @GetMapping
-    @Operation(summary = "Get public chats by filtering", description = "공개된 채팅 목록 조회 API")
-    public ResponseEntity<ApiResponse<List<ChatListResponse>>> getPublicChatListResponse(
+    @Operation(summary = "Get public chats by filtering", description = "공개된 채팅 목록 조회 API (cursor 기반 페이지네이션)")
+    public ResponseEntity<ApiResponse<ChatListPageResponse>> getPublicChatListResponse(
             @RequestParam(value = "datefilter", required = false) String dateFilter,
-            @RequestParam(value = "tag", required = false) String tag
+            @RequestParam(value = "tag", required = false) String tag,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size
     ){
-        return ApiResponse.ok(chatService.getPublicChatList(dateFilter, tag), "공개 채팅 목록 조회에 성공하였습니다.");
+        return ApiResponse.ok(chatService.getPublicChatList(dateFilter, tag, cursor, size), "공개 채팅 목록 조회에 성공하였습니다.");
     }
 
     @GetMapping("/me")
-    @Operation(summary = "Get user's chats by filtering", description = "유저의 채팅 목록 조회 API")
-    public ResponseEntity<ApiResponse<List<ChatListResponse>>> getUserChatListResponse(
+    @Operation(summary = "Get user's chats by filtering", description = "유저의 채팅 목록 조회 API (cursor 기반 페이지네이션)")
+    public ResponseEntity<ApiResponse<ChatListPageResponse>> getUserChatListResponse(
             @RequestParam(value = "datefilter", required = false) String dateFilter,
-            @RequestParam(value = "tag", required = false) String tag
+            @RequestParam(value = "tag", required = false) String tag,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size
     ){
-        return ApiResponse.ok(chatService.getUserChatList(dateFilter, tag), "유저 채팅 목록 조회에 성공하였습니다.");
+        return ApiResponse.ok(chatService.getUserChatList(dateFilter, tag, cursor, size), "유저 채팅 목록 조회에 성공하였습니다.");
+    }
+
+    @GetMapping("/best")
+    @Operation(summary = "Get best chats", description = "LIKE 순 베스트 채팅 목록 조회 API")
+    public ResponseEntity<ApiResponse<List<ChatListResponse>>> getBestChatList(
+            @RequestParam(value = "limit", required = false) Integer limit
+    ){
+        return ApiResponse.ok(chatService.getBestChatList(limit), "베스트 채팅 목록 조회에 성공하였습니다.");
     }
 
     @PatchMapping("/close")
@@ -79,15 +91,30 @@ public class ChatController {
 
 
     @GetMapping("/search")
+    @Operation(summary = "Search public chats", description = "공개 채팅방 제목 검색 API (관련도 순, page/size 페이지네이션)")
     public ResponseEntity<ApiResponse<List<PublicChatListResponse>>> searchPublicChats(
-            @RequestParam("query") String query
+            @RequestParam("query") String query,
+            @RequestParam(value = "page", required = false) Integer page,
+            @RequestParam(value = "size", required = false) Integer size
     ) {
         return ApiResponse.ok(
-                chatService.searchPublicChats(query),
+                chatService.searchPublicChats(query, page, size),
                 "공개 채팅방 검색에 성공했습니다."
         );
     }
 
+    @GetMapping("/autocomplete")
+    @Operation(summary = "Autocomplete chat search", description = "공개 채팅방 검색어 자동완성 API")
+    public ResponseEntity<ApiResponse<List<String>>> autocomplete(
+            @RequestParam("prefix") String prefix,
+            @RequestParam(value = "limit", required = false) Integer limit
+    ) {
+        return ApiResponse.ok(
+                chatService.autocomplete(prefix, limit),
+                "자동완성 조회에 성공했습니다."
+        );
+    }
+
     @PatchMapping("/reaction")
     @Operation(summary = "리액션 설정", description = "공개된 채팅방에 리액션 설정 API")
     public ResponseEntity<ApiResponse<ChatReactionResponse>> reaction(@RequestBody @Valid ChatReactionRequest request){
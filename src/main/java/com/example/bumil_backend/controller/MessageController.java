@@ -2,7 +2,10 @@ package com.example.bumil_backend.controller;
 
 import com.example.bumil_backend.common.ApiResponse;
 import com.example.bumil_backend.dto.message.ChatMessageDto;
+import com.example.bumil_backend.dto.message.ChatMessagePageResponse;
 import com.example.bumil_backend.dto.message.MessageRequest;
+import com.example.bumil_backend.dto.message.ReadAckRequest;
+import com.example.bumil_backend.dto.message.UnreadCountResponse;
 import com.example.bumil_backend.service.MessageService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -46,7 +49,8 @@ public class MessageController {
     실제 메시지 전송은 WebSocket(STOMP)을 사용합니다.
 
     ▶ SEND
-    /pub/chat/send
+    /pub/chat/room/{roomId}
+    (기존 /pub/chat/send 는 payload에 roomId 포함, 호환용)
 
     ▶ SUBSCRIBE
     /sub/chat/room/{roomId}
@@ -89,20 +93,75 @@ public class MessageController {
     }
 
 
+    @MessageMapping("/chat/room/{roomId}")
+    @Operation(summary = "채팅방 메시지 전송", description = "채팅방 메시지 전송 시 사용하는 API 입니다. roomId는 목적지 경로로 전달합니다.")
+    public void sendRoomMessage(
+            @DestinationVariable Long roomId,
+            @Payload MessageRequest request,
+            SimpMessageHeaderAccessor accessor
+    ) {
+        messageService.sendMessage(roomId, request.getMessage(), accessor);
+    }
+
+    // 호환용 (payload의 roomId 사용)
     @MessageMapping("/chat/send")
     @SendTo("/sub/chat/room/{roomId}")
-    @Operation(summary = "채팅방 메시지 전송", description = "채팅방 메시지 전송 시 사용하는 API 입니다.")
+    @Operation(summary = "채팅방 메시지 전송 (기존)", description = "payload에 roomId를 포함하는 기존 메시지 전송 API 입니다.")
     public void sendMessage(@Payload MessageRequest request, SimpMessageHeaderAccessor accessor) {
-        messageService.sendMessage(request, accessor);
+        messageService.sendMessage(request.getRoomId(), request.getMessage(), accessor);
+    }
+
+    // 재연결 시 놓친 메시지만 받기 (결과로 온 마지막 seq 이후가 더 있으면 다시 요청)
+    // seq는 빈틈이 있을 수 있으므로 결과가 비었으면 따라잡은 것으로 보고, 빠진 번호를 다시 요청하지 않음
+    @SubscribeMapping("/chat/room/{roomId}/since/{since}")
+    public List<ChatMessageDto> resync(
+            @DestinationVariable Long roomId,
+            @DestinationVariable Long since,
+            SimpMessageHeaderAccessor accessor
+    ) {
+        return messageService.getMessagesSince(roomId, since, accessor);
+    }
+
+    // 읽음 처리 ack (마지막으로 읽은 순번 전달, 읽음 표시는 /sub/chat/room/{roomId}/read)
+    @MessageMapping("/chat/room/{roomId}/read")
+    public void markAsRead(
+            @DestinationVariable Long roomId,
+            @Payload ReadAckRequest request,
+            SimpMessageHeaderAccessor accessor
+    ) {
+        messageService.markAsRead(roomId, request.getSeq(), accessor);
+    }
+
+    @GetMapping("/unread")
+    @Operation(summary = "Get unread counts", description = "내 채팅방별 안 읽은 메시지 수 조회 API")
+    public ResponseEntity<ApiResponse<List<UnreadCountResponse>>> getUnreadCounts() {
+        return ApiResponse.ok(messageService.getUnreadCounts(), "안 읽은 메시지 수가 조회되었습니다.");
+    }
+
+    @GetMapping("/{chatRoomId}/history")
+    @Operation(summary = "Get message history", description = "순번 기반 채팅 메시지 기록 조회 API (before 미지정 시 최신 메시지부터, 응답의 next를 before로 전달해 이전 기록 조회)")
+    public ResponseEntity<ApiResponse<ChatMessagePageResponse>> getMessageHistory(
+            @PathVariable Long chatRoomId,
+            @RequestParam(value = "before", required = false) Long before,
+            @RequestParam(value = "after", required = false) Long after,
+            @RequestParam(value = "size", required = false) Integer size
+    ) {
+        return ApiResponse.ok(
+                messageService.getMessageHistory(chatRoomId, before, after, size),
+                "채팅 메시지 기록이 조회되었습니다."
+        );
     }
 
     @GetMapping("/{chatRoomId}")
-    @Operation(summary = "Get My messages", description = "내 채팅 메시지 목록 조회 API")
+    @Operation(summary = "Get My messages", description = "내 채팅 메시지 목록 조회 API (since 지정 시 해당 순번 이후 메시지만 조회, 순번은 증가만 보장하며 빈틈이 있을 수 있음)")
     public ResponseEntity<ApiResponse<List<ChatMessageDto>>> getMessages
             (@PathVariable Long chatRoomId,
-             @RequestParam(required = false) Pageable pageable
+             @RequestParam(required = false) Pageable pageable,
+             @RequestParam(required = false) Long since
             ) {
-        List<ChatMessageDto> result = messageService.getMessages(chatRoomId, pageable);
+        List<ChatMessageDto> result = (since != null)
+                ? messageService.getMessagesSince(chatRoomId, since)
+                : messageService.getMessages(chatRoomId, pageable);
         return ApiResponse.ok(result, "내 채팅 메시지 목록이 조회되었습니다.");
     }
 
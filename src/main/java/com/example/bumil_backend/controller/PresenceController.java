@@ -0,0 +1,30 @@
+package com.example.bumil_backend.controller;
+
+import com.example.bumil_backend.dto.websocket.response.PresenceResponse;
+import com.example.bumil_backend.service.RoomPresenceRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
+import org.springframework.stereotype.Controller;
+
+// 접속자/입력 중 표시 (MessageService, DB를 거치지 않음)
+// 변경 알림: /sub/chat/room/{roomId}/presence 구독
+@Controller
+@RequiredArgsConstructor
+public class PresenceController {
+    private final RoomPresenceRegistry roomPresenceRegistry;
+
+    // 입력 중 신호 (입력하는 동안 주기적으로 전송, chat.presence.typing-ttl-ms 동안 유지)
+    @MessageMapping("/chat/room/{roomId}/typing")
+    public void typing(@DestinationVariable Long roomId, SimpMessageHeaderAccessor accessor) {
+        roomPresenceRegistry.typing(roomId, accessor.getSessionId());
+    }
+
+    // 입장 시 현재 접속자 목록 1회 조회
+    @SubscribeMapping("/chat/room/{roomId}/presence")
+    public PresenceResponse presence(@DestinationVariable Long roomId) {
+        return roomPresenceRegistry.getPresence(roomId);
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.bumil_backend.dto.chat.cursor;
+
+import com.example.bumil_backend.common.exception.BadRequestException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+// 채팅 목록 키셋 페이지네이션 커서 (createdAt, id)
+@Getter
+@AllArgsConstructor
+public class ChatListCursor {
+
+    // 첫 페이지 조회용 경계값 (MySQL DATETIME 범위 내)
+    private static final LocalDateTime MAX_CREATED_AT = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+    private static final LocalDateTime MIN_CREATED_AT = LocalDateTime.of(1000, 1, 1, 0, 0, 0);
+
+    private static final String DELIMITER = "_";
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    // 첫 페이지: 최신순이면 가장 큰 값, 오래된순이면 가장 작은 값에서 시작
+    public static ChatListCursor first(boolean ascending) {
+        return ascending
+                ? new ChatListCursor(MIN_CREATED_AT, 0L)
+                : new ChatListCursor(MAX_CREATED_AT, Long.MAX_VALUE);
+    }
+
+    public static ChatListCursor decode(String cursor, boolean ascending) {
+        if (cursor == null || cursor.isBlank()) {
+            return first(ascending);
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = decoded.lastIndexOf(DELIMITER);
+
+            return new ChatListCursor(
+                    LocalDateTime.parse(decoded.substring(0, index)),
+                    Long.parseLong(decoded.substring(index + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new BadRequestException("올바른 커서를 입력하세요.");
+        }
+    }
+
+    public static String encode(LocalDateTime createdAt, Long id) {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
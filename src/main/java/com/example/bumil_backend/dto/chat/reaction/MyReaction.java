@@ -0,0 +1,12 @@
+package com.example.bumil_backend.dto.chat.reaction;
+
+import com.example.bumil_backend.enums.ReactionType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class MyReaction {
+    private Long chatRoomId;
+    private ReactionType reactionType;
+}
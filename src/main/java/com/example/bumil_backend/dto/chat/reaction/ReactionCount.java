@@ -1,11 +1,15 @@
 package com.example.bumil_backend.dto.chat.reaction;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 
 @Data
 @Builder
+@AllArgsConstructor
 public class ReactionCount {
     private int likeCnt;
     private int dislikeCnt;
+    private long reactionVersion;
+    private boolean visible;  // 공개 && 삭제되지 않음
 }
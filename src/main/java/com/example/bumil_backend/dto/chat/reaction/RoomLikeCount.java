@@ -0,0 +1,13 @@
+package com.example.bumil_backend.dto.chat.reaction;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 베스트 순위 재구성용 (채팅방별 LIKE 수와 리액션 버전)
+@Getter
+@AllArgsConstructor
+public class RoomLikeCount {
+    private Long chatRoomId;
+    private int likeCnt;
+    private long reactionVersion;
+}
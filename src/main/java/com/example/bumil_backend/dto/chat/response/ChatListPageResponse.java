@@ -0,0 +1,14 @@
+package com.example.bumil_backend.dto.chat.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class ChatListPageResponse {
+    private List<ChatListResponse> items;
+    private String next;     // 다음 페이지 커서 (마지막 페이지면 null)
+    private boolean hasNext;
+}
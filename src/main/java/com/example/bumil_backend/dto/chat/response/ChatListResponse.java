@@ -1,12 +1,15 @@
 package com.example.bumil_backend.dto.chat.response;
 
+import com.example.bumil_backend.enums.ChatTags;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 
 import java.time.LocalDateTime;
 
-@Builder
+@Builder(toBuilder = true)
 @Data
+@AllArgsConstructor
 public class ChatListResponse {
     private Long chatRoomId;
     private boolean best;
@@ -16,4 +19,24 @@ public class ChatListResponse {
     private String tag;
     private String author;
     private LocalDateTime createdAt;
+    private String myReaction;  // 조회한 유저의 리액션 (없으면 null)
+
+    // JPQL 생성자 프로젝션용
+    public ChatListResponse(
+            Long chatRoomId,
+            Integer likeCnt,
+            Integer dislikeCnt,
+            String title,
+            ChatTags tag,
+            String author,
+            LocalDateTime createdAt
+    ) {
+        this.chatRoomId = chatRoomId;
+        this.likeCnt = likeCnt;
+        this.dislikeCnt = dislikeCnt;
+        this.title = title;
+        this.tag = tag.name();
+        this.author = author;
+        this.createdAt = createdAt;
+    }
 }
@@ -1,11 +1,13 @@
 package com.example.bumil_backend.dto.chat.response;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.Getter;
 
 @Builder
 @Getter
+@AllArgsConstructor
 public class ChatReactionResponse {
     private Long chatRoomId;
     private Integer likeCnt;
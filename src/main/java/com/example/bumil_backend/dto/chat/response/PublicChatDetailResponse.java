@@ -29,6 +29,27 @@ public class PublicChatDetailResponse {
             Integer likeCnt,
             Integer dislikeCnt,
             String myReaction
+    ) {
+        return fromItems(
+                chatRoom,
+                ChatMessageDto.from(
+                        messages,
+                        chatRoom.isAnonymous(),
+                        chatRoom.getAuthor().getId()
+                ),
+                likeCnt,
+                dislikeCnt,
+                myReaction
+        );
+    }
+
+    // 이미 익명 처리된 메시지 DTO로 생성
+    public static PublicChatDetailResponse fromItems(
+            ChatRoom chatRoom,
+            List<ChatMessageDto> items,
+            Integer likeCnt,
+            Integer dislikeCnt,
+            String myReaction
     ) {
         return PublicChatDetailResponse.builder()
                 .chatRoomId(chatRoom.getId())
@@ -37,13 +58,7 @@ public class PublicChatDetailResponse {
                 .dislikeCnt(dislikeCnt)
                 .myReaction(myReaction)
                 .tag(chatRoom.getTag().name())
-                .items(
-                        ChatMessageDto.from(
-                                messages,
-                                chatRoom.isAnonymous(),
-                                chatRoom.getAuthor().getId()
-                        )
-                )
+                .items(items)
                 .createdAt(chatRoom.getCreatedAt())
                 .build();
     }
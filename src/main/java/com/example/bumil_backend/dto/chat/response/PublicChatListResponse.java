@@ -1,5 +1,7 @@
 package com.example.bumil_backend.dto.chat.response;
 
+import com.example.bumil_backend.enums.ChatTags;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 
@@ -7,9 +9,18 @@ import java.time.LocalDateTime;
 
 @Builder
 @Data
+@AllArgsConstructor
 public class PublicChatListResponse {
     private Long chatRoomId;
     private String title;
     private String tag;
     private LocalDateTime createdAt;
+
+    // JPQL 생성자 프로젝션용
+    public PublicChatListResponse(Long chatRoomId, String title, ChatTags tag, LocalDateTime createdAt) {
+        this.chatRoomId = chatRoomId;
+        this.title = title;
+        this.tag = tag.name();
+        this.createdAt = createdAt;
+    }
 }
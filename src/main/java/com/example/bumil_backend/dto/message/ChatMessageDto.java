@@ -2,6 +2,7 @@ package com.example.bumil_backend.dto.message;
 
 import com.example.bumil_backend.entity.ChatMessage;
 import com.example.bumil_backend.entity.ChatRoom;
+import com.fasterxml.jackson.annotation.JsonFormat;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -11,8 +12,12 @@ import java.util.List;
 
 @Getter
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class ChatMessageDto {
+    // Snowflake ID는 2^53을 넘어 JavaScript number로 정확히 표현되지 않으므로 문자열로 전달
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    private Long messageId;
+    private Long seq;
     private String message;
     private boolean isDeleted;
     private Long sender;
@@ -24,6 +29,8 @@ public class ChatMessageDto {
 
     public static ChatMessageDto from(ChatMessage chatMessage) {
         return ChatMessageDto.builder()
+                .messageId(chatMessage.getId())
+                .seq(chatMessage.getSeq())
                 .message(chatMessage.getMessage())
                 .isDeleted(chatMessage.isDeleted())
                 .sender(chatMessage.getSender().getId())
@@ -32,6 +39,21 @@ public class ChatMessageDto {
                 .build();
     }
 
+    // 재동기화용: 삭제된 메시지는 내용 없이 순번만 전달
+    public static ChatMessageDto fromWithTombstone(ChatMessage chatMessage) {
+        if (!chatMessage.isDeleted()) {
+            return from(chatMessage);
+        }
+
+        return ChatMessageDto.builder()
+                .messageId(chatMessage.getId())
+                .seq(chatMessage.getSeq())
+                .isDeleted(true)
+                .sender(chatMessage.getSender().getId())
+                .createdAt(chatMessage.getCreatedAt())
+                .build();
+    }
+
     public static List<ChatMessageDto> from(List<ChatMessage> messages) {
         return messages.stream()
                 .map(ChatMessageDto::from)
@@ -52,6 +74,8 @@ public class ChatMessageDto {
                         : chatMessage.getSender().getName();
 
         return ChatMessageDto.builder()
+                .messageId(chatMessage.getId())
+                .seq(chatMessage.getSeq())
                 .message(chatMessage.getMessage())
                 .isDeleted(chatMessage.isDeleted())
                 .sender(chatMessage.getSender().getId())
@@ -60,6 +84,23 @@ public class ChatMessageDto {
                 .build();
     }
 
+    // 이미 만들어진 DTO에 익명 처리 적용 (최근 메시지 버퍼에서 읽은 경우)
+    public static List<ChatMessageDto> anonymize(
+            List<ChatMessageDto> messages,
+            boolean isAnonymousRoom,
+            Long authorId
+    ) {
+        if (!isAnonymousRoom) {
+            return messages;
+        }
+
+        return messages.stream()
+                .map(m -> m.getSender().equals(authorId)
+                        ? m.toBuilder().senderName("익명").build()
+                        : m)
+                .toList();
+    }
+
     public static List<ChatMessageDto> from(
             List<ChatMessage> messages,
             boolean isAnonymousRoom,
@@ -0,0 +1,14 @@
+package com.example.bumil_backend.dto.message;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class ChatMessagePageResponse {
+    private List<ChatMessageDto> items;   // 오래된 -> 최신 순
+    private Long next;       // 다음 요청의 before/after 순번 (마지막 페이지면 null)
+    private boolean hasNext;
+}
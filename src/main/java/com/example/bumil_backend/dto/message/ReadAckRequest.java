@@ -0,0 +1,14 @@
+package com.example.bumil_backend.dto.message;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReadAckRequest {
+    private Long seq;   // 마지막으로 읽은 메시지 순번
+}
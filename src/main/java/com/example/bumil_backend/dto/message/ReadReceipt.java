@@ -0,0 +1,11 @@
+package com.example.bumil_backend.dto.message;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ReadReceipt {
+    private Long userId;
+    private Long lastReadSeq;
+}
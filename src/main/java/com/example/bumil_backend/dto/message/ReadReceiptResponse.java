@@ -0,0 +1,14 @@
+package com.example.bumil_backend.dto.message;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+// 채팅방 읽음 표시 (주기 동안 읽음 위치가 바뀐 사용자를 묶어서 한 번에 전송)
+@Getter
+@Builder
+public class ReadReceiptResponse {
+    private Long chatRoomId;
+    private List<ReadReceipt> receipts;
+}
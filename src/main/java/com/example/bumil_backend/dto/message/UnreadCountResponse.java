@@ -0,0 +1,13 @@
+package com.example.bumil_backend.dto.message;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class UnreadCountResponse {
+    private Long chatRoomId;
+    private Long lastReadSeq;
+    private Long lastSeq;
+    private long unreadCount;
+}
@@ -0,0 +1,16 @@
+package com.example.bumil_backend.dto.websocket.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class ChannelExecutorStatsResponse {
+    private String channel;
+    private boolean virtualThreads;
+    private int activeCount;
+    private int poolSize;
+    private int maxPoolSize;
+    private int queueSize;
+    private long completedTasks;
+}
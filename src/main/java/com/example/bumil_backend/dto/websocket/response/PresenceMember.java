@@ -0,0 +1,13 @@
+package com.example.bumil_backend.dto.websocket.response;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@EqualsAndHashCode
+public class PresenceMember {
+    private Long userId;
+    private String name;
+}
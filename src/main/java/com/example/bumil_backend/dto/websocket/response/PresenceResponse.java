@@ -0,0 +1,14 @@
+package com.example.bumil_backend.dto.websocket.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class PresenceResponse {
+    private Long chatRoomId;
+    private List<PresenceMember> online;  // 접속 중인 사용자 (여러 세션이어도 한 번)
+    private List<Long> typing;            // 입력 중인 사용자 ID
+}
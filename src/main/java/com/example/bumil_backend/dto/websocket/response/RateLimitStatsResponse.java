@@ -0,0 +1,19 @@
+package com.example.bumil_backend.dto.websocket.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Map;
+
+@Getter
+@Builder
+public class RateLimitStatsResponse {
+    private boolean enabled;
+    private int sessionBuckets;
+    private int userBuckets;
+    private long allowedFrames;
+    private long rejectedBySession;
+    private long rejectedByUser;
+    // 종류(chat/signal/other)별 거부 프레임 수
+    private Map<String, Long> rejectedByCategory;
+}
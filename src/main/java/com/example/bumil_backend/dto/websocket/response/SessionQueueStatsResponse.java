@@ -0,0 +1,16 @@
+package com.example.bumil_backend.dto.websocket.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class SessionQueueStatsResponse {
+    private String sessionId;
+    private String user;
+    private int bufferedMessages;
+    private int bufferedBytes;
+    private long sendTimeMillis;
+    private long sentFrames;
+    private long droppedFrames;
+}
@@ -0,0 +1,14 @@
+package com.example.bumil_backend.dto.websocket.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+// /user/queue/errors 로 보내는 STOMP 오류 알림 (ERROR 프레임과 달리 연결은 유지)
+@Getter
+@Builder
+public class StompErrorResponse {
+    private String code;
+    private String message;
+    private String destination;
+    private long retryAfterMillis;
+}
@@ -1,5 +1,6 @@
 package com.example.bumil_backend.entity;
 
+import com.example.bumil_backend.common.id.SnowflakeId;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -12,14 +13,32 @@ import java.time.LocalDateTime;
 @Getter
 @AllArgsConstructor
 @NoArgsConstructor
-@Table(name = "chat_messages")
+@Table(
+        name = "chat_messages",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_chat_messages_room_seq",
+                columnNames = {"chat_room_id", "seq"}
+        ),
+        indexes = @Index(
+                name = "idx_chat_messages_room_deleted_seq",
+                columnList = "chat_room_id, is_deleted, seq"
+        )
+)
 @Builder
 public class ChatMessage {
+    // message 컬럼 길이 (VARCHAR, 문자 수 기준)
+    public static final int MAX_MESSAGE_LENGTH = 255;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
-    @Column(nullable = false)
+    // 채팅방 안에서의 순번 (1부터 증가, 재연결 시 since 기준)
+    // 빈틈이 생길 수 있음: database 모드의 발급 후 저장 등록 실패, 지연 저장 실패(dead-letter) 행
+    // 클라이언트는 순서 비교에만 사용하고, 건너뛴 번호를 기다리지 않음 (since 조회는 받은 마지막 seq 기준)
+    private Long seq;
+
+    @Column(nullable = false, length = MAX_MESSAGE_LENGTH)
     private String message;
 
     @Column(nullable = false)
@@ -39,7 +58,10 @@ public class ChatMessage {
 
     @PrePersist
     public void prePersist(){
-        this.createdAt = LocalDateTime.now();
+        // 전송 시점에 이미 정해진 경우 유지
+        if (this.createdAt == null) {
+            this.createdAt = LocalDateTime.now();
+        }
     }
 
     public void delete() {
@@ -0,0 +1,44 @@
+package com.example.bumil_backend.entity;
+
+import com.example.bumil_backend.common.id.SnowflakeId;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 사용자별 채팅방 읽음 위치 (ReadCursorWriter가 모아서 저장)
+@Entity
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Table(
+        name = "chat_read_cursors",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_chat_read_cursors_user_room",
+                columnNames = {"user_id", "chat_room_id"}
+        )
+)
+public class ChatReadCursor {
+    @Id
+    @SnowflakeId
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "user_id", nullable = false)
+    private Users user;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "chat_room_id", nullable = false)
+    private ChatRoom chatRoom;
+
+    // 마지막으로 읽은 메시지 순번 (ChatMessage.seq)
+    @Column(nullable = false)
+    private Long lastReadSeq;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -6,6 +6,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -16,7 +17,14 @@ import java.util.List;
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
-@Table(name = "chat_rooms")
+@DynamicUpdate
+@Table(
+        name = "chat_rooms",
+        indexes = {
+                @Index(name = "idx_chat_rooms_created_at_id", columnList = "created_at, id"),
+                @Index(name = "idx_chat_rooms_user_created_at_id", columnList = "user_id, created_at, id")
+        }
+)
 public class ChatRoom {
 
     @Id
@@ -42,6 +50,20 @@ public class ChatRoom {
     @Builder.Default
     private boolean isDeleted = false;
 
+    // 리액션 집계 (ChatRoomRepository의 원자적 UPDATE로만 변경)
+    @Column(nullable = false)
+    @Builder.Default
+    private int likeCnt = 0;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private int dislikeCnt = 0;
+
+    // 리액션/공개 여부 변경마다 1씩 증가 (커밋 순서대로 증가하므로 이벤트 순서 판별에 사용)
+    @Column(nullable = false)
+    @Builder.Default
+    private long reactionVersion = 0;
+
     @Column(nullable = false)
     private LocalDateTime createdAt;
 
@@ -97,12 +119,4 @@ public class ChatRoom {
     public void changeTag(ChatTags tag) {
         this.tag = tag;
     }
-
-    public void addReaction(ChatRoomReaction savedReaction) {
-        this.reactions.add(savedReaction);
-    }
-
-    public void removeReaction(ChatRoomReaction existingReaction) {
-        this.reactions.remove(existingReaction);
-    }
 }
@@ -1,5 +1,6 @@
 package com.example.bumil_backend.entity;
 
+import com.example.bumil_backend.common.id.SnowflakeId;
 import com.example.bumil_backend.enums.ReactionType;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
@@ -12,10 +13,16 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
-@Table(name = "chat_room_reactions")
+@Table(
+        name = "chat_room_reactions",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_chat_room_reactions_user_room",
+                columnNames = {"user_id", "chat_room_id"}
+        )
+)
 public class ChatRoomReaction {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
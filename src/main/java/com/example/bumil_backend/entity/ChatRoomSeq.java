@@ -0,0 +1,20 @@
+package com.example.bumil_backend.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 채팅방별 마지막 메시지 순번 (chat.message.sequencer.mode=database 에서 여러 노드가 공유하는 발급 카운터)
+@Entity
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "chat_room_seqs")
+public class ChatRoomSeq {
+    @Id
+    private Long chatRoomId;
+
+    @Column(nullable = false)
+    private Long lastSeq;
+}
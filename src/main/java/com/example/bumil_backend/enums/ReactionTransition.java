@@ -0,0 +1,7 @@
+package com.example.bumil_backend.enums;
+
+public enum ReactionTransition {
+    ADDED,      // 리액션 추가
+    REMOVED,    // 같은 리액션 해제
+    CHANGED     // 다른 리액션으로 변경
+}
@@ -0,0 +1,12 @@
+package com.example.bumil_backend.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 채팅 메시지 삭제
+@Getter
+@AllArgsConstructor
+public class ChatMessageDeletedEvent {
+    private final Long chatRoomId;
+    private final Long messageId;
+}
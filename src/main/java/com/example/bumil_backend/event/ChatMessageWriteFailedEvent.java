@@ -0,0 +1,12 @@
+package com.example.bumil_backend.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 지연 저장에 끝내 실패한 채팅 메시지 (이미 전송되었지만 DB에는 없음)
+@Getter
+@AllArgsConstructor
+public class ChatMessageWriteFailedEvent {
+    private final Long chatRoomId;
+    private final Long messageId;
+}
@@ -0,0 +1,15 @@
+package com.example.bumil_backend.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 채팅방 리액션 변경 (변경 후 카운터 값)
+@Getter
+@AllArgsConstructor
+public class ChatReactionChangedEvent {
+    private final Long chatRoomId;
+    private final int likeCnt;
+    private final int dislikeCnt;
+    private final boolean visible;  // 공개 && 삭제되지 않음
+    private final long reactionVersion;
+}
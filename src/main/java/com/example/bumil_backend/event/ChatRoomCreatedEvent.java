@@ -0,0 +1,16 @@
+package com.example.bumil_backend.event;
+
+import com.example.bumil_backend.enums.ChatTags;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 채팅방 생성
+@Getter
+@AllArgsConstructor
+public class ChatRoomCreatedEvent {
+    private final Long chatRoomId;
+    private final LocalDateTime createdAt;
+    private final ChatTags tag;
+}
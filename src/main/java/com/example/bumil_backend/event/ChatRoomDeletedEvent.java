@@ -0,0 +1,11 @@
+package com.example.bumil_backend.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 채팅방 삭제
+@Getter
+@AllArgsConstructor
+public class ChatRoomDeletedEvent {
+    private final Long chatRoomId;
+}
@@ -0,0 +1,16 @@
+package com.example.bumil_backend.event;
+
+import com.example.bumil_backend.enums.ChatTags;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 채팅방 상태(태그) 변경
+@Getter
+@AllArgsConstructor
+public class ChatRoomTagChangedEvent {
+    private final Long chatRoomId;
+    private final LocalDateTime createdAt;
+    private final ChatTags tag;  // 변경 후 태그
+}
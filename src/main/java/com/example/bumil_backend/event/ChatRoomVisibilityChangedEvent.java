@@ -0,0 +1,15 @@
+package com.example.bumil_backend.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 채팅방 공개 여부 변경 (공개 설정 변경, 삭제)
+@Getter
+@AllArgsConstructor
+public class ChatRoomVisibilityChangedEvent {
+    private final Long chatRoomId;
+    private final String title;
+    private final boolean visible;  // 공개 && 삭제되지 않음
+    private final int likeCnt;
+    private final long reactionVersion;
+}
@@ -0,0 +1,11 @@
+package com.example.bumil_backend.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 회원 탈퇴 / 권한 변경 (채팅방 접근 판단이 달라지는 경우)
+@Getter
+@AllArgsConstructor
+public class UserAccessChangedEvent {
+    private final Long userId;
+}
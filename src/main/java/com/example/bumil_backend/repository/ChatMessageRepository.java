@@ -1,21 +1,80 @@
 package com.example.bumil_backend.repository;
 
+import com.example.bumil_backend.dto.message.LastSeq;
 import com.example.bumil_backend.entity.ChatMessage;
 import com.example.bumil_backend.entity.ChatRoom;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long> {
-    Page<ChatMessage> findByChatRoomAndIsDeletedFalse(
+    // 전체 개수가 필요 없으므로 COUNT 쿼리 없는 Slice로 조회
+    Slice<ChatMessage> findByChatRoomAndIsDeletedFalse(
             ChatRoom chatRoom,
             Pageable pageable
     );
 
     List<ChatMessage> findByChatRoomAndIsDeletedFalseOrderByCreatedAtAsc(ChatRoom chatRoom);
 
+    @Query("SELECT COALESCE(MAX(m.seq), 0) FROM ChatMessage m WHERE m.chatRoom.id = :chatRoomId")
+    long findLastSeq(@Param("chatRoomId") Long chatRoomId);
 
+    // 여러 방의 마지막 순번 (uk_chat_messages_room_seq 인덱스만 읽음, 메시지가 없는 방은 결과에 없음)
+    @Query("""
+            SELECT new com.example.bumil_backend.dto.message.LastSeq(m.chatRoom.id, MAX(m.seq))
+            FROM ChatMessage m
+            WHERE m.chatRoom.id IN :chatRoomIds
+            GROUP BY m.chatRoom.id
+           """)
+    List<LastSeq> findLastSeqs(@Param("chatRoomIds") Collection<Long> chatRoomIds);
 
+    // 재연결 시 놓친 메시지만 조회 (삭제된 메시지도 순번 유지를 위해 포함, uk_chat_messages_room_seq 인덱스)
+    @Query("""
+            SELECT m FROM ChatMessage m
+            JOIN FETCH m.sender
+            WHERE m.chatRoom.id = :chatRoomId
+            AND m.seq > :since
+            ORDER BY m.seq ASC
+           """)
+    List<ChatMessage> findSince(
+            @Param("chatRoomId") Long chatRoomId,
+            @Param("since") Long since,
+            Limit limit
+    );
+
+    // 이전 기록 조회: before 순번 이전 메시지를 최신순으로 (idx_chat_messages_room_deleted_seq 인덱스, COUNT 없이 size + 1개 조회)
+    @Query("""
+            SELECT m FROM ChatMessage m
+            JOIN FETCH m.sender
+            WHERE m.chatRoom.id = :chatRoomId
+            AND m.isDeleted = false
+            AND m.seq < :before
+            ORDER BY m.seq DESC
+           """)
+    Slice<ChatMessage> findHistoryBefore(
+            @Param("chatRoomId") Long chatRoomId,
+            @Param("before") Long before,
+            Pageable pageable
+    );
+
+    // 이후 기록 조회: after 순번 이후 메시지를 오래된순으로
+    @Query("""
+            SELECT m FROM ChatMessage m
+            JOIN FETCH m.sender
+            WHERE m.chatRoom.id = :chatRoomId
+            AND m.isDeleted = false
+            AND m.seq > :after
+            ORDER BY m.seq ASC
+           """)
+    Slice<ChatMessage> findHistoryAfter(
+            @Param("chatRoomId") Long chatRoomId,
+            @Param("after") Long after,
+            Pageable pageable
+    );
 }
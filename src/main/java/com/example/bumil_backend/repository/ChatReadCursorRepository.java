@@ -0,0 +1,21 @@
+package com.example.bumil_backend.repository;
+
+import com.example.bumil_backend.dto.message.ReadCursor;
+import com.example.bumil_backend.entity.ChatReadCursor;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface ChatReadCursorRepository extends JpaRepository<ChatReadCursor, Long> {
+
+    // 사용자의 채팅방별 읽음 위치 (삭제된 채팅방 제외)
+    @Query("""
+            SELECT new com.example.bumil_backend.dto.message.ReadCursor(c.chatRoom.id, c.lastReadSeq)
+            FROM ChatReadCursor c
+            WHERE c.user.id = :userId
+            AND c.chatRoom.isDeleted = false
+           """)
+    List<ReadCursor> findReadCursors(@Param("userId") Long userId);
+}
@@ -1,14 +1,101 @@
 package com.example.bumil_backend.repository;
 
-import com.example.bumil_backend.entity.ChatRoom;
+import com.example.bumil_backend.dto.chat.reaction.MyReaction;
 import com.example.bumil_backend.entity.ChatRoomReaction;
 import com.example.bumil_backend.entity.Users;
+import com.example.bumil_backend.enums.ReactionTransition;
+import com.example.bumil_backend.enums.ReactionType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ChatRoomReactionRepository extends JpaRepository<ChatRoomReaction, Long> {
     ChatRoomReaction findByUser(Users user);
 
-    ChatRoomReaction findByUserAndChatRoom(Users user, ChatRoom chatRoom);
+    // 내 리액션 단건 조회 (uk_chat_room_reactions_user_room 인덱스)
+    @Query("""
+            SELECT r.reactionType FROM ChatRoomReaction r
+            WHERE r.user.id = :userId
+            AND r.chatRoom.id = :chatRoomId
+           """)
+    Optional<ReactionType> findReactionType(
+            @Param("userId") Long userId,
+            @Param("chatRoomId") Long chatRoomId
+    );
+
+    // 내 리액션 일괄 조회 (목록 한 페이지 분량을 IN 쿼리 한 번으로)
+    @Query("""
+            SELECT new com.example.bumil_backend.dto.chat.reaction.MyReaction(r.chatRoom.id, r.reactionType)
+            FROM ChatRoomReaction r
+            WHERE r.user.id = :userId
+            AND r.chatRoom.id IN :chatRoomIds
+           """)
+    List<MyReaction> findMyReactions(
+            @Param("userId") Long userId,
+            @Param("chatRoomIds") Collection<Long> chatRoomIds
+    );
+
+    @Query("""
+            SELECT new com.example.bumil_backend.dto.chat.reaction.MyReaction(r.chatRoom.id, r.reactionType)
+            FROM ChatRoomReaction r
+            JOIN r.user u
+            WHERE u.email = :email
+            AND u.isDeleted = false
+            AND r.chatRoom.id IN :chatRoomIds
+           """)
+    List<MyReaction> findMyReactionsByEmail(
+            @Param("email") String email,
+            @Param("chatRoomIds") Collection<Long> chatRoomIds
+    );
+
+    // 없으면 추가, 다른 리액션이면 변경 (uk_chat_room_reactions_user_room)
+    // 영향 행 수: 추가 1, 변경 2, 이미 같은 리액션이면 1(CLIENT_FOUND_ROWS) 또는 0 -> toggle에서 id로 구분
+    @Modifying
+    @Query(value = """
+            INSERT INTO chat_room_reactions (id, chat_room_id, user_id, reaction_type)
+            VALUES (:id, :chatRoomId, :userId, :reactionType)
+            ON DUPLICATE KEY UPDATE reaction_type = :reactionType
+           """, nativeQuery = true)
+    int upsertReaction(
+            @Param("id") Long id,
+            @Param("userId") Long userId,
+            @Param("chatRoomId") Long chatRoomId,
+            @Param("reactionType") String reactionType
+    );
+
+    // 이번 요청 전부터 있던 같은 리액션이면 삭제 (방금 INSERT한 행은 id가 같으므로 남음)
+    @Modifying
+    @Query(value = """
+            DELETE FROM chat_room_reactions
+            WHERE user_id = :userId
+            AND chat_room_id = :chatRoomId
+            AND reaction_type = :reactionType
+            AND id <> :newId
+           """, nativeQuery = true)
+    int deleteExistingReaction(
+            @Param("newId") Long newId,
+            @Param("userId") Long userId,
+            @Param("chatRoomId") Long chatRoomId,
+            @Param("reactionType") String reactionType
+    );
+
+    // 리액션 토글: UPSERT 후 필요하면 조건부 DELETE, 전이는 영향 행 수로 결정 (조회/재시도 없음)
+    // UPSERT가 행 잠금을 잡은 뒤 DELETE하므로 같은 사용자의 동시 토글이 끼어들지 않음
+    // 중복 무시(INSERT IGNORE)를 쓰지 않으므로 FK/길이 오류는 그대로 예외로 드러남
+    // 갭 락 교착을 피하기 위해 READ COMMITTED 트랜잭션 안에서 호출
+    // newId: INSERT 될 때 사용할 ID (SnowflakeIdGenerator)
+    default ReactionTransition toggle(Long newId, Long userId, Long chatRoomId, String reactionType) {
+        if (upsertReaction(newId, userId, chatRoomId, reactionType) == 2) {
+            return ReactionTransition.CHANGED;
+        }
+
+        return (deleteExistingReaction(newId, userId, chatRoomId, reactionType) > 0)
+                ? ReactionTransition.REMOVED
+                : ReactionTransition.ADDED;
+    }
 }
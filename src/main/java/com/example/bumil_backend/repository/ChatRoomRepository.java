@@ -1,16 +1,21 @@
 package com.example.bumil_backend.repository;
 
+import com.example.bumil_backend.dto.chat.reaction.ReactionCount;
+import com.example.bumil_backend.dto.chat.reaction.RoomLikeCount;
+import com.example.bumil_backend.dto.chat.response.ChatListResponse;
+import com.example.bumil_backend.dto.chat.response.PublicChatListResponse;
 import com.example.bumil_backend.entity.ChatRoom;
-import com.example.bumil_backend.entity.Users;
 import com.example.bumil_backend.enums.ChatTags;
-import com.example.bumil_backend.enums.Tag;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -28,37 +33,194 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
     Page<ChatRoom> findAllByIsDeletedFalse(Pageable pageable);
 
 
+    // 채팅 목록 조회 (작성자 이름 + 리액션 수를 한 번의 쿼리로, (createdAt, id) 키셋 페이지네이션)
     @Query("""
-            SELECT c FROM ChatRoom c
+            SELECT new com.example.bumil_backend.dto.chat.response.ChatListResponse(
+                c.id, c.likeCnt, c.dislikeCnt, c.title, c.tag, a.name, c.createdAt
+            )
+            FROM ChatRoom c
+            JOIN c.author a
             WHERE c.isDeleted = false
             AND (:tag IS NULL OR c.tag = :tag)
+            AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id))
+            ORDER BY c.createdAt DESC, c.id DESC
            """)
-    List<ChatRoom> findAllByTagAndIsDeletedFalse(@Param("tag") Tag tag, Sort sort);
+    List<ChatListResponse> findChatListRecent(
+            @Param("tag") ChatTags tag,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Limit limit
+    );
+
+    @Query("""
+            SELECT new com.example.bumil_backend.dto.chat.response.ChatListResponse(
+                c.id, c.likeCnt, c.dislikeCnt, c.title, c.tag, a.name, c.createdAt
+            )
+            FROM ChatRoom c
+            JOIN c.author a
+            WHERE c.isDeleted = false
+            AND (:tag IS NULL OR c.tag = :tag)
+            AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id))
+            ORDER BY c.createdAt ASC, c.id ASC
+           """)
+    List<ChatListResponse> findChatListOldest(
+            @Param("tag") ChatTags tag,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Limit limit
+    );
+
+    // 유저 채팅 목록 조회 (키셋 페이지네이션)
+    @Query("""
+            SELECT new com.example.bumil_backend.dto.chat.response.ChatListResponse(
+                c.id, c.likeCnt, c.dislikeCnt, c.title, c.tag, a.name, c.createdAt
+            )
+            FROM ChatRoom c
+            JOIN c.author a
+            WHERE c.isDeleted = false
+            AND a.id = :authorId
+            AND (:tag IS NULL OR c.tag = :tag)
+            AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id))
+            ORDER BY c.createdAt DESC, c.id DESC
+           """)
+    List<ChatListResponse> findUserChatListRecent(
+            @Param("authorId") Long authorId,
+            @Param("tag") ChatTags tag,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Limit limit
+    );
 
     @Query("""
-            SELECT c FROM ChatRoom c
+            SELECT new com.example.bumil_backend.dto.chat.response.ChatListResponse(
+                c.id, c.likeCnt, c.dislikeCnt, c.title, c.tag, a.name, c.createdAt
+            )
+            FROM ChatRoom c
+            JOIN c.author a
             WHERE c.isDeleted = false
+            AND a.id = :authorId
             AND (:tag IS NULL OR c.tag = :tag)
-            AND c.author = :author
+            AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id))
+            ORDER BY c.createdAt ASC, c.id ASC
            """)
-    List<ChatRoom> findByTagAndAuthorAndIsDeletedFalse(
-            @Param("tag") Tag tag,
-            @Param("author") Users author,
-            Sort sort
+    List<ChatListResponse> findUserChatListOldest(
+            @Param("authorId") Long authorId,
+            @Param("tag") ChatTags tag,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Limit limit
     );
 
+    // id 목록으로 채팅 목록 조회 (순서는 호출 측에서 정렬)
+    @Query("""
+            SELECT new com.example.bumil_backend.dto.chat.response.ChatListResponse(
+                c.id, c.likeCnt, c.dislikeCnt, c.title, c.tag, a.name, c.createdAt
+            )
+            FROM ChatRoom c
+            JOIN c.author a
+            WHERE c.id IN :ids
+            AND c.isDeleted = false
+           """)
+    List<ChatListResponse> findChatListByIds(@Param("ids") Collection<Long> ids);
+
+    // LIKE가 있는 공개 채팅방 (베스트 순위 재구성용)
     @Query("""
-        select c
-        from ChatRoom c
-        where c.isPublic = true
-          and c.isDeleted = false
-          and lower(c.title) like lower(concat('%', :keyword, '%'))
-        order by c.createdAt desc
-    """)
-    List<ChatRoom> searchPublicChatsByTitle(@Param("keyword") String keyword);
+            SELECT new com.example.bumil_backend.dto.chat.reaction.RoomLikeCount(
+                c.id, c.likeCnt, c.reactionVersion
+            )
+            FROM ChatRoom c
+            WHERE c.isPublic = true
+            AND c.isDeleted = false
+            AND c.likeCnt > 0
+           """)
+    List<RoomLikeCount> findLikedPublicChatRooms();
 
+    // 공개 채팅방 제목 (검색 색인 재구성용)
+    @Query("""
+            SELECT new com.example.bumil_backend.dto.chat.response.PublicChatListResponse(
+                c.id, c.title, c.tag, c.createdAt
+            )
+            FROM ChatRoom c
+            WHERE c.isPublic = true
+            AND c.isDeleted = false
+           """)
+    List<PublicChatListResponse> findAllPublicChatTitles();
+
+    // id 목록으로 공개 채팅방 조회 (순서는 호출 측에서 정렬)
+    @Query("""
+            SELECT new com.example.bumil_backend.dto.chat.response.PublicChatListResponse(
+                c.id, c.title, c.tag, c.createdAt
+            )
+            FROM ChatRoom c
+            WHERE c.id IN :ids
+            AND c.isPublic = true
+            AND c.isDeleted = false
+           """)
+    List<PublicChatListResponse> findPublicChatsByIds(@Param("ids") Collection<Long> ids);
 
     Optional<ChatRoom> findByIdAndIsDeletedFalseAndIsPublicTrue(Long chatRoomId);
-}
 
+    // 접근 권한 판단용 작성자 id만 조회
+    @Query("""
+            SELECT c.author.id
+            FROM ChatRoom c
+            WHERE c.id = :chatRoomId
+            AND c.isDeleted = false
+           """)
+    Optional<Long> findAuthorIdByIdAndIsDeletedFalse(@Param("chatRoomId") Long chatRoomId);
+
+    // 안 읽은 메시지 수 조회용 내 채팅방 id (idx_chat_rooms_user_created_at_id)
+    @Query("""
+            SELECT c.id
+            FROM ChatRoom c
+            WHERE c.author.id = :authorId
+            AND c.isDeleted = false
+           """)
+    List<Long> findIdsByAuthorId(@Param("authorId") Long authorId);
 
+    // 리액션 카운터 원자적 증감 (컬렉션 로딩 없이 단일 UPDATE)
+    @Modifying
+    @Query("""
+            UPDATE ChatRoom c
+            SET c.likeCnt = c.likeCnt + :likeDelta,
+                c.dislikeCnt = c.dislikeCnt + :dislikeDelta,
+                c.reactionVersion = c.reactionVersion + 1
+            WHERE c.id = :chatRoomId
+           """)
+    int adjustReactionCounts(
+            @Param("chatRoomId") Long chatRoomId,
+            @Param("likeDelta") int likeDelta,
+            @Param("dislikeDelta") int dislikeDelta
+    );
+
+    // 공개 여부 변경 시 리액션 버전만 증가 (베스트 순위가 이전 이벤트를 무시하도록)
+    @Modifying
+    @Query("""
+            UPDATE ChatRoom c
+            SET c.reactionVersion = c.reactionVersion + 1
+            WHERE c.id = :chatRoomId
+           """)
+    int increaseReactionVersion(@Param("chatRoomId") Long chatRoomId);
+
+    @Query("""
+            SELECT new com.example.bumil_backend.dto.chat.reaction.ReactionCount(
+                c.likeCnt, c.dislikeCnt, c.reactionVersion,
+                CASE WHEN c.isPublic = true AND c.isDeleted = false THEN true ELSE false END
+            )
+            FROM ChatRoom c
+            WHERE c.id = :chatRoomId
+           """)
+    Optional<ReactionCount> findReactionCountById(@Param("chatRoomId") Long chatRoomId);
+
+    // 리액션 카운터 보정 (chat_room_reactions 기준 재계산)
+    @Modifying
+    @Query(value = """
+            UPDATE chat_rooms c
+            SET c.like_cnt = (SELECT COUNT(*) FROM chat_room_reactions r
+                              WHERE r.chat_room_id = c.id AND r.reaction_type = 'LIKE'),
+                c.dislike_cnt = (SELECT COUNT(*) FROM chat_room_reactions r
+                                 WHERE r.chat_room_id = c.id AND r.reaction_type = 'DISLIKE'),
+                c.reaction_version = c.reaction_version + 1
+           """, nativeQuery = true)
+    int recalculateReactionCounts();
+}
@@ -0,0 +1,7 @@
+package com.example.bumil_backend.repository;
+
+import com.example.bumil_backend.entity.ChatRoomSeq;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ChatRoomSeqRepository extends JpaRepository<ChatRoomSeq, Long> {
+}
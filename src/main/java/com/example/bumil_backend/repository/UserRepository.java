@@ -1,7 +1,10 @@
 package com.example.bumil_backend.repository;
 
 import com.example.bumil_backend.entity.Users;
+import com.example.bumil_backend.enums.Role;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -16,4 +19,7 @@ public interface UserRepository extends JpaRepository<Users, Long> {
     List<Users> findAllByIsDeletedFalse();
 
     boolean existsByStudentNumAndIsDeletedFalse(Integer studentNum);
+
+    @Query("SELECT u.role FROM Users u WHERE u.id = :id AND u.isDeleted = false")
+    Optional<Role> findRoleByIdAndIsDeletedFalse(@Param("id") Long id);
 }
@@ -0,0 +1,17 @@
+package com.example.bumil_backend.security;
+
+import com.example.bumil_backend.enums.Role;
+
+import java.security.Principal;
+
+// WebSocket 세션 사용자 (CONNECT 시 JWT 클레임으로 생성, 엔티티 대신 세션에 보관)
+public record StompPrincipal(Long id, String email, Role role, String name) implements Principal {
+
+    public static final String SESSION_KEY = "userPrincipal";
+
+    // 기존 Principal 사용처와 동일하게 email 반환
+    @Override
+    public String getName() {
+        return email;
+    }
+}
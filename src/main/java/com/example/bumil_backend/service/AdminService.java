@@ -2,18 +2,27 @@ package com.example.bumil_backend.service;
 
 
 import com.example.bumil_backend.common.exception.BadRequestException;
+import com.example.bumil_backend.config.OutboundSessionRegistry;
+import com.example.bumil_backend.config.StompChannelExecutors;
+import com.example.bumil_backend.config.StompRateLimitInterceptor;
 import com.example.bumil_backend.dto.chat.request.UserUpdateForAdminRequest;
+import com.example.bumil_backend.dto.chat.response.ChatListCacheStatsResponse;
 import com.example.bumil_backend.dto.chat.response.ChatListDto;
 import com.example.bumil_backend.dto.user.response.GetAllUsersResponse;
 import com.example.bumil_backend.dto.user.response.UserUpdateResponse;
+import com.example.bumil_backend.dto.websocket.response.ChannelExecutorStatsResponse;
+import com.example.bumil_backend.dto.websocket.response.RateLimitStatsResponse;
+import com.example.bumil_backend.dto.websocket.response.SessionQueueStatsResponse;
 import com.example.bumil_backend.entity.ChatRoom;
 import com.example.bumil_backend.entity.Users;
 import com.example.bumil_backend.enums.ChatTags;
 import com.example.bumil_backend.enums.DateFilter;
+import com.example.bumil_backend.event.UserAccessChangedEvent;
 import com.example.bumil_backend.repository.ChatRoomRepository;
 import com.example.bumil_backend.repository.UserRepository;
 import com.example.bumil_backend.security.SecurityUtils;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -33,6 +42,11 @@ public class AdminService {
     private final SecurityUtils securityUtils;
     private final ChatRoomRepository chatRoomRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ChatListCache chatListCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final StompChannelExecutors stompChannelExecutors;
+    private final OutboundSessionRegistry outboundSessionRegistry;
+    private final StompRateLimitInterceptor stompRateLimitInterceptor;
 
     // 강제 회원 탈퇴
     @Transactional
@@ -43,6 +57,7 @@ public class AdminService {
 
         deleteUser.setDeleted(true);
         userRepository.save(deleteUser);
+        eventPublisher.publishEvent(new UserAccessChangedEvent(deleteUser.getId()));
     }
 
 
@@ -127,4 +142,28 @@ public class AdminService {
                 )
                 .toList();
     }
+
+    // 공개 채팅 목록 캐시 통계
+    public ChatListCacheStatsResponse getChatListCacheStats() {
+        securityUtils.getCurrentAdmin();
+        return chatListCache.getStats();
+    }
+
+    // WebSocket 채널 실행기 통계
+    public List<ChannelExecutorStatsResponse> getChannelExecutorStats() {
+        securityUtils.getCurrentAdmin();
+        return stompChannelExecutors.getStats();
+    }
+
+    // WebSocket 세션별 전송 대기열 통계
+    public List<SessionQueueStatsResponse> getSessionQueueStats() {
+        securityUtils.getCurrentAdmin();
+        return outboundSessionRegistry.getStats();
+    }
+
+    // STOMP 전송 속도 제한 통계
+    public RateLimitStatsResponse getRateLimitStats() {
+        securityUtils.getCurrentAdmin();
+        return stompRateLimitInterceptor.getStats();
+    }
 }
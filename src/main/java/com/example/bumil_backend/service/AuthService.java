@@ -16,10 +16,12 @@ import com.example.bumil_backend.dto.user.response.LoginResponse;
 import com.example.bumil_backend.dto.user.response.SignupResponse;
 import com.example.bumil_backend.entity.RefreshToken;
 import com.example.bumil_backend.entity.Users;
+import com.example.bumil_backend.event.UserAccessChangedEvent;
 import com.example.bumil_backend.repository.RefreshTokenRepository;
 import com.example.bumil_backend.repository.UserRepository;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -39,6 +41,7 @@ public class AuthService {
     private final AuthenticationManager authenticationManager;
     private final TokenProvider tokenProvider;
     private final RefreshTokenRepository refreshTokenRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
 
     public SignupResponse signup(SignupRequest request){
@@ -191,6 +194,7 @@ public class AuthService {
 
         user.delete();
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserAccessChangedEvent(user.getId()));
     }
 
     private String extractAccessToken(HttpServletRequest request) {
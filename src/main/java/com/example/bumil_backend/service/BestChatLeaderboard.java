@@ -0,0 +1,131 @@
+package com.example.bumil_backend.service;
+
+import com.example.bumil_backend.dto.chat.reaction.RoomLikeCount;
+import com.example.bumil_backend.event.ChatReactionChangedEvent;
+import com.example.bumil_backend.event.ChatRoomVisibilityChangedEvent;
+import com.example.bumil_backend.repository.ChatRoomRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 공개 채팅방 LIKE 순위 (메모리 유지, 갱신 O(log n))
+// 이벤트의 LIKE 수를 그대로 반영하되, 커밋 순서와 다르게 도착한 이벤트는 리액션 버전으로 걸러냄 (DB 조회는 재구성 시에만)
+@Component
+@RequiredArgsConstructor
+public class BestChatLeaderboard {
+
+    private static final Comparator<Ranking> RANKING_ORDER =
+            Comparator.comparingInt(Ranking::likeCnt).reversed()
+                    .thenComparingLong(Ranking::chatRoomId);
+
+    private static final int LOCK_STRIPES = 64;
+
+    private final ChatRoomRepository chatRoomRepository;
+
+    private final ConcurrentSkipListSet<Ranking> rankings = new ConcurrentSkipListSet<>(RANKING_ORDER);
+    private final ConcurrentHashMap<Long, Ranking> rankingByRoom = new ConcurrentHashMap<>();
+    // 방별 마지막으로 반영한 리액션 버전 (순위에서 빠진 방도 유지해 늦게 도착한 이전 이벤트를 무시)
+    private final ConcurrentHashMap<Long, Long> appliedVersions = new ConcurrentHashMap<>();
+
+    // 개별 갱신은 read lock (동시 진행), 전체 재구성은 write lock (갱신과 섞이지 않도록)
+    private final ReentrantReadWriteLock rebuildLock = new ReentrantReadWriteLock();
+    // 같은 방의 버전 비교 -> 반영을 직렬화
+    private final ReentrantLock[] roomLocks = createRoomLocks();
+
+    // DB 기준 전체 재구성 (기동 시, 카운터 보정 후)
+    // LIKE가 없거나 비공개인 방은 버전을 알 수 없으므로 재구성 직후 도착한 이전 이벤트는 그대로 반영됨
+    public void rebuild() {
+        rebuildLock.writeLock().lock();
+        try {
+            List<RoomLikeCount> likedRooms = chatRoomRepository.findLikedPublicChatRooms();
+
+            rankingByRoom.clear();
+            rankings.clear();
+            appliedVersions.clear();
+            likedRooms.forEach(room -> {
+                appliedVersions.put(room.getChatRoomId(), room.getReactionVersion());
+                update(room.getChatRoomId(), room.getLikeCnt());
+            });
+        } finally {
+            rebuildLock.writeLock().unlock();
+        }
+    }
+
+    // 상위 limit개 채팅방 id (LIKE 내림차순)
+    public List<Long> top(int limit) {
+        return rankings.stream()
+                .limit(limit)
+                .map(Ranking::chatRoomId)
+                .toList();
+    }
+
+    public Long getBestChatRoomId() {
+        Ranking first = rankings.isEmpty() ? null : rankings.first();
+        return first == null ? null : first.chatRoomId();
+    }
+
+    @TransactionalEventListener
+    public void onReactionChanged(ChatReactionChangedEvent event) {
+        apply(event.getChatRoomId(), event.isVisible() ? event.getLikeCnt() : 0, event.getReactionVersion());
+    }
+
+    @TransactionalEventListener
+    public void onVisibilityChanged(ChatRoomVisibilityChangedEvent event) {
+        apply(event.getChatRoomId(), event.isVisible() ? event.getLikeCnt() : 0, event.getReactionVersion());
+    }
+
+    // 이미 반영한 버전 이하의 이벤트는 늦게 도착한 이전 상태이므로 무시
+    private void apply(Long chatRoomId, int likeCnt, long version) {
+        ReentrantLock roomLock = roomLocks[Math.floorMod(chatRoomId.hashCode(), LOCK_STRIPES)];
+
+        rebuildLock.readLock().lock();
+        roomLock.lock();
+        try {
+            Long appliedVersion = appliedVersions.get(chatRoomId);
+            if (appliedVersion != null && version <= appliedVersion) {
+                return;
+            }
+
+            appliedVersions.put(chatRoomId, version);
+            update(chatRoomId, likeCnt);
+        } finally {
+            roomLock.unlock();
+            rebuildLock.readLock().unlock();
+        }
+    }
+
+    // LIKE가 0 이하이면 순위에서 제외
+    private void update(Long chatRoomId, int likeCnt) {
+        rankingByRoom.compute(chatRoomId, (id, previous) -> {
+            if (previous != null) {
+                rankings.remove(previous);
+            }
+
+            if (likeCnt <= 0) {
+                return null;
+            }
+
+            Ranking ranking = new Ranking(id, likeCnt);
+            rankings.add(ranking);
+            return ranking;
+        });
+    }
+
+    private static ReentrantLock[] createRoomLocks() {
+        ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        return locks;
+    }
+
+    private record Ranking(Long chatRoomId, int likeCnt) {
+    }
+}
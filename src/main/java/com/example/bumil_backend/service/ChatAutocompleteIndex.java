@@ -0,0 +1,356 @@
+package com.example.bumil_backend.service;
+
+import com.example.bumil_backend.dto.chat.response.PublicChatListResponse;
+import com.example.bumil_backend.event.ChatRoomVisibilityChangedEvent;
+import com.example.bumil_backend.repository.ChatRoomRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 채팅 검색 자동완성 (압축 트라이, 노드마다 상위 N개 완성어를 미리 계산)
+// 검색 횟수는 write lock 없이 모아 두었다가 주기마다 한 번에 반영
+@Component
+public class ChatAutocompleteIndex {
+
+    private static final int MAX_QUERY_LENGTH = 50;
+
+    // 가중치 높은 순, 같으면 사전 순
+    private static final Comparator<Term> RANKING_ORDER =
+            Comparator.comparingLong(Term::weight).reversed()
+                    .thenComparing(Term::key);
+
+    // 메모리 상한 초과 시 가중치 낮은 것부터 제거
+    private static final Comparator<Term> EVICTION_ORDER =
+            Comparator.comparingLong(Term::weight)
+                    .thenComparing(Term::key);
+
+    private final ChatRoomRepository chatRoomRepository;
+    private final int maxTerms;
+    private final int topN;
+    private final int maxPendingQueries;
+    private final long maxQueryWeight;
+
+    private final Node root = new Node("");
+    private final Map<String, Term> terms = new HashMap<>();
+    private final TreeSet<Term> termsByWeight = new TreeSet<>(EVICTION_ORDER);
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 아직 반영하지 않은 검색 횟수 (검색어 -> 횟수)
+    private final ConcurrentHashMap<String, LongAdder> pendingQueries = new ConcurrentHashMap<>();
+
+    public ChatAutocompleteIndex(
+            ChatRoomRepository chatRoomRepository,
+            @Value("${chat.autocomplete.max-terms:20000}") int maxTerms,
+            @Value("${chat.autocomplete.max-results:10}") int topN,
+            @Value("${chat.autocomplete.max-pending-queries:10000}") int maxPendingQueries,
+            @Value("${chat.autocomplete.max-query-weight:1000}") long maxQueryWeight
+    ) {
+        this.chatRoomRepository = chatRoomRepository;
+        this.maxTerms = maxTerms;
+        this.topN = topN;
+        this.maxPendingQueries = maxPendingQueries;
+        this.maxQueryWeight = maxQueryWeight;
+    }
+
+    public int getMaxResults() {
+        return topN;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<PublicChatListResponse> publicChats = chatRoomRepository.findAllPublicChatTitles();
+
+        lock.writeLock().lock();
+        try {
+            root.children.clear();
+            root.term = null;
+            root.top = List.of();
+            terms.clear();
+            termsByWeight.clear();
+
+            publicChats.forEach(chat -> addWeight(chat.getTitle(), 1, 0));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onVisibilityChanged(ChatRoomVisibilityChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            addWeight(event.getTitle(), event.isVisible() ? 1 : -1, 0);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 결과가 있었던 검색어를 인기 검색어 후보로 기록 (반영은 flushQueries에서)
+    // 주기 안에 서로 다른 검색어가 상한을 넘으면 새 검색어는 버림 (이미 모으던 검색어는 계속 셈)
+    public void recordQuery(String query) {
+        if (query == null || query.length() > MAX_QUERY_LENGTH) {
+            return;
+        }
+
+        LongAdder count = pendingQueries.get(query);
+        if (count == null) {
+            if (pendingQueries.size() >= maxPendingQueries) {
+                return;
+            }
+            count = pendingQueries.computeIfAbsent(query, key -> new LongAdder());
+        }
+        count.increment();
+    }
+
+    // 모아 둔 검색 횟수를 write lock 한 번으로 반영
+    @Scheduled(fixedDelayString = "${chat.autocomplete.query-flush-interval-ms:60000}")
+    public void flushQueries() {
+        if (pendingQueries.isEmpty()) {
+            return;
+        }
+
+        Map<String, Long> counts = new HashMap<>();
+        for (String query : pendingQueries.keySet()) {
+            LongAdder count = pendingQueries.remove(query);
+            if (count != null) {
+                counts.put(query, count.sum());
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            counts.forEach((query, count) -> addWeight(query, 0, count));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // prefix로 시작하는 상위 limit개 완성어
+    public List<String> complete(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            int index = 0;
+
+            while (index < key.length()) {
+                Node child = node.children.get(key.charAt(index));
+                if (child == null) {
+                    return List.of();
+                }
+
+                int remaining = key.length() - index;
+                int compareLength = Math.min(remaining, child.label.length());
+                if (!key.regionMatches(index, child.label, 0, compareLength)) {
+                    return List.of();
+                }
+
+                index += compareLength;
+                node = child;
+            }
+
+            return node.top.stream()
+                    .limit(limit)
+                    .map(Term::display)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // write lock 안에서 호출, 검색 횟수는 max-query-weight에서 멈춤 (한 검색어가 제목 가중치를 무한히 앞서지 않도록)
+    private void addWeight(String text, int titleDelta, long queryDelta) {
+        String key = normalize(text);
+        if (key.isEmpty()) {
+            return;
+        }
+
+        Term previous = terms.get(key);
+        Term updated = (previous == null)
+                ? new Term(key, text.trim(), Math.max(titleDelta, 0), Math.min(queryDelta, maxQueryWeight))
+                : new Term(key, previous.display(), Math.max(previous.titleCount() + titleDelta, 0),
+                Math.min(previous.queryCount() + queryDelta, maxQueryWeight));
+
+        if (previous != null) {
+            termsByWeight.remove(previous);
+        }
+
+        if (updated.titleCount() <= 0 && updated.queryCount() <= 0) {
+            if (previous != null) {
+                terms.remove(key);
+                remove(key);
+            }
+            return;
+        }
+
+        terms.put(key, updated);
+        termsByWeight.add(updated);
+        put(updated);
+
+        while (terms.size() > maxTerms) {
+            Term evicted = termsByWeight.pollFirst();
+            terms.remove(evicted.key());
+            remove(evicted.key());
+        }
+    }
+
+    private void put(Term term) {
+        String key = term.key();
+        List<Node> path = new ArrayList<>();
+        path.add(root);
+
+        Node node = root;
+        int index = 0;
+
+        while (index < key.length()) {
+            char first = key.charAt(index);
+            Node child = node.children.get(first);
+
+            if (child == null) {
+                Node leaf = new Node(key.substring(index));
+                node.children.put(first, leaf);
+                node = leaf;
+                path.add(leaf);
+                break;
+            }
+
+            int common = commonPrefixLength(child.label, key, index);
+            if (common < child.label.length()) {
+                // 간선 분할
+                Node middle = new Node(child.label.substring(0, common));
+                child.label = child.label.substring(common);
+                middle.children.put(child.label.charAt(0), child);
+                middle.top = child.top;
+                node.children.put(first, middle);
+                child = middle;
+            }
+
+            node = child;
+            path.add(child);
+            index += common;
+        }
+
+        node.term = term;
+        refreshTop(path);
+    }
+
+    private void remove(String key) {
+        List<Node> path = findPath(key);
+        if (path == null) {
+            return;
+        }
+
+        Node target = path.get(path.size() - 1);
+        target.term = null;
+
+        if (target != root && target.children.isEmpty()) {
+            path.remove(path.size() - 1);
+            Node parent = path.get(path.size() - 1);
+            parent.children.remove(target.label.charAt(0));
+            mergeIfSingleChild(parent);
+        } else {
+            mergeIfSingleChild(target);
+        }
+
+        refreshTop(path);
+    }
+
+    private List<Node> findPath(String key) {
+        List<Node> path = new ArrayList<>();
+        path.add(root);
+
+        Node node = root;
+        int index = 0;
+        while (index < key.length()) {
+            Node child = node.children.get(key.charAt(index));
+            if (child == null || !key.startsWith(child.label, index)) {
+                return null;
+            }
+            index += child.label.length();
+            node = child;
+            path.add(child);
+        }
+
+        return node.term == null ? null : path;
+    }
+
+    // 완성어 없이 자식이 하나뿐인 노드는 자식과 합쳐 압축 유지
+    private void mergeIfSingleChild(Node node) {
+        if (node == root || node.term != null || node.children.size() != 1) {
+            return;
+        }
+
+        Node only = node.children.values().iterator().next();
+        node.label = node.label + only.label;
+        node.term = only.term;
+        node.children = only.children;
+        node.top = only.top;
+    }
+
+    // 경로의 아래쪽부터 상위 N개 재계산
+    private void refreshTop(List<Node> path) {
+        for (int i = path.size() - 1; i >= 0; i--) {
+            Node node = path.get(i);
+
+            List<Term> candidates = new ArrayList<>();
+            if (node.term != null) {
+                candidates.add(node.term);
+            }
+            node.children.values().forEach(child -> candidates.addAll(child.top));
+
+            node.top = candidates.stream()
+                    .sorted(RANKING_ORDER)
+                    .limit(topN)
+                    .toList();
+        }
+    }
+
+    private int commonPrefixLength(String label, String key, int offset) {
+        int max = Math.min(label.length(), key.length() - offset);
+        int length = 0;
+        while (length < max && label.charAt(length) == key.charAt(offset + length)) {
+            length++;
+        }
+        return length;
+    }
+
+    private String normalize(String text) {
+        return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Node {
+        private String label;
+        private TreeMap<Character, Node> children = new TreeMap<>();
+        private Term term;
+        private List<Term> top = List.of();
+
+        private Node(String label) {
+            this.label = label;
+        }
+    }
+
+    private record Term(String key, String display, int titleCount, long queryCount) {
+
+        long weight() {
+            return titleCount + queryCount;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.bumil_backend.service;
+
+import com.example.bumil_backend.config.StompWireFormat;
+import com.example.bumil_backend.event.ChatRoomDeletedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.MimeTypeUtils;
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+// 채팅방 구독자에게 브로드캐스트 (메시지당 JSON 직렬화 1회)
+// CBOR를 협상한 세션이 있으면 CBOR payload도 한 번만 만들어 함께 전달
+// 직렬화한 byte[]를 그대로 브로커에 넘기므로 변환기 탐색/재직렬화 없이 모든 구독 세션이 같은 payload를 공유
+@Component
+@RequiredArgsConstructor
+public class ChatBroadcaster {
+
+    private static final String ROOM_DESTINATION_PREFIX = "/sub/chat/room/";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ObjectMapper objectMapper;
+    private final StompWireFormat stompWireFormat;
+
+    // 방별 구독 경로 (매 전송마다 문자열 생성하지 않도록)
+    private final ConcurrentHashMap<Long, String> destinations = new ConcurrentHashMap<>();
+
+    public void broadcast(Long chatRoomId, Object payload) {
+        send(destination(chatRoomId), payload);
+    }
+
+    public void send(String destination, Object payload) {
+        messagingTemplate.send(destination, encode(payload));
+    }
+
+    public String destination(Long chatRoomId) {
+        return destinations.computeIfAbsent(chatRoomId, id -> ROOM_DESTINATION_PREFIX + id);
+    }
+
+    // 채팅방 구독 경로(/sub/chat/room/{roomId})의 방 id (하위 경로나 다른 경로면 null)
+    public Long roomIdOf(String destination) {
+        if (destination == null || !destination.startsWith(ROOM_DESTINATION_PREFIX)) {
+            return null;
+        }
+
+        try {
+            return Long.parseLong(destination.substring(ROOM_DESTINATION_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private Message<byte[]> encode(Object payload) {
+        MessageBuilder<byte[]> builder = MessageBuilder
+                .withPayload(objectMapper.writeValueAsBytes(payload))
+                .setHeader(MessageHeaders.CONTENT_TYPE, MimeTypeUtils.APPLICATION_JSON);
+
+        // CBOR 세션용 payload도 메시지당 한 번만 인코딩 (StompWireFormat이 세션별로 골라 씀)
+        if (stompWireFormat.hasCborSessions()) {
+            builder.setHeader(StompWireFormat.CBOR_PAYLOAD_HEADER, stompWireFormat.encodeCbor(payload));
+        }
+        return builder.build();
+    }
+
+    @TransactionalEventListener
+    public void onChatRoomDeleted(ChatRoomDeletedEvent event) {
+        destinations.remove(event.getChatRoomId());
+    }
+}
@@ -0,0 +1,340 @@
+package com.example.bumil_backend.service;
+
+import com.example.bumil_backend.dto.chat.cursor.ChatListCursor;
+import com.example.bumil_backend.dto.chat.response.ChatListCacheStatsResponse;
+import com.example.bumil_backend.dto.chat.response.ChatListPageResponse;
+import com.example.bumil_backend.dto.chat.response.ChatListResponse;
+import com.example.bumil_backend.enums.ChatTags;
+import com.example.bumil_backend.event.ChatReactionChangedEvent;
+import com.example.bumil_backend.event.ChatRoomCreatedEvent;
+import com.example.bumil_backend.event.ChatRoomTagChangedEvent;
+import com.example.bumil_backend.event.ChatRoomVisibilityChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+// 공개 채팅 목록 페이지 캐시 (근사 LRU, 도메인 이벤트로 해당 페이지만 무효화)
+// 리액션/공개 여부 변경은 채팅방 -> 페이지 역색인으로 그 방이 들어 있는 페이지만 제거 (전역 락/전체 순회 없음)
+// 생성/태그 변경은 조회 범위 비교가 필요해 전체를 순회하지만 드물게 일어남
+// 이벤트는 이 노드에서 커밋된 변경만 받으므로, relay 모드에서 다른 노드의 변경은 ttl-seconds가 지나야 반영
+@Component
+public class ChatListCache {
+
+    private static final int ROOM_VERSION_STRIPES = 1024;
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final ConcurrentHashMap<Key, Entry> entries = new ConcurrentHashMap<>();
+
+    // 채팅방 id -> 그 방을 포함한 캐시 페이지
+    private final ConcurrentHashMap<Long, Set<Entry>> entriesByRoom = new ConcurrentHashMap<>();
+
+    // 무효화 순번, 방별 마지막 무효화 순번 (방 id 해시로 나눈 고정 크기 배열)
+    // 조회 중 그 페이지의 방이 무효화되면 결과를 캐시에 넣지 않음 (다른 방의 변경은 영향 없음)
+    private final AtomicLong invalidationSeq = new AtomicLong();
+    private final AtomicLongArray roomVersions = new AtomicLongArray(ROOM_VERSION_STRIPES);
+    // 생성/태그 변경처럼 아직 캐시되지 않은 페이지 범위에도 영향을 주는 무효화의 마지막 순번
+    private final AtomicLong rangeVersion = new AtomicLong();
+
+    // 최대 크기를 넘으면 한 스레드만 오래 쓰이지 않은 페이지를 묶어서 제거
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public ChatListCache(
+            @Value("${chat.list.cache.max-entries:1000}") int maxSize,
+            @Value("${chat.list.cache.ttl-seconds:5}") long ttlSeconds
+    ) {
+        this.maxSize = maxSize;
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+    }
+
+    public ChatListPageResponse getOrLoad(
+            boolean ascending,
+            ChatTags tag,
+            ChatListCursor cursor,
+            int size,
+            Supplier<ChatListPageResponse> loader
+    ) {
+        Key key = new Key(ascending, tag, cursor.getCreatedAt(), cursor.getId(), size);
+
+        Entry cached = entries.get(key);
+        if (cached != null) {
+            long now = System.nanoTime();
+            if (!cached.isExpired(now)) {
+                hits.increment();
+                cached.touch(now);
+                return cached.page();
+            }
+            remove(cached);
+        }
+
+        misses.increment();
+        long loadedSeq = invalidationSeq.get();
+        ChatListPageResponse page = loader.get();
+
+        Entry entry = new Entry(key, page, System.nanoTime() + ttlNanos);
+        if (!changedSince(entry, loadedSeq)) {
+            put(entry);
+
+            // 색인 등록 전에 무효화가 지나갔으면 여기서 제거 (무효화는 순번 증가 -> 색인 조회 순서)
+            if (changedSince(entry, loadedSeq)) {
+                remove(entry);
+            }
+        }
+
+        return page;
+    }
+
+    public ChatListCacheStatsResponse getStats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long total = hitCount + missCount;
+
+        return ChatListCacheStatsResponse.builder()
+                .size(entries.size())
+                .maxSize(maxSize)
+                .hits(hitCount)
+                .misses(missCount)
+                .evictions(evictions.sum())
+                .invalidations(invalidations.sum())
+                .hitRate(total == 0 ? 0.0 : (double) hitCount / total)
+                .build();
+    }
+
+    // 새 채팅방: 해당 위치를 조회 범위에 포함하는 페이지만 무효화
+    @TransactionalEventListener
+    public void onChatRoomCreated(ChatRoomCreatedEvent event) {
+        rangeVersion.set(invalidationSeq.incrementAndGet());
+        invalidateIf(entry -> entry.key().matchesTag(event.getTag())
+                && entry.key().covers(event.getCreatedAt(), event.getChatRoomId(), entry));
+    }
+
+    // 태그 변경: 기존에 포함하던 페이지 + 새 태그 필터로 포함하게 될 페이지
+    @TransactionalEventListener
+    public void onChatRoomTagChanged(ChatRoomTagChangedEvent event) {
+        rangeVersion.set(invalidationSeq.incrementAndGet());
+        invalidateIf(entry -> entry.contains(event.getChatRoomId())
+                || (entry.key().matchesTag(event.getTag())
+                && entry.key().covers(event.getCreatedAt(), event.getChatRoomId(), entry)));
+    }
+
+    @TransactionalEventListener
+    public void onReactionChanged(ChatReactionChangedEvent event) {
+        invalidateRoom(event.getChatRoomId());
+    }
+
+    @TransactionalEventListener
+    public void onVisibilityChanged(ChatRoomVisibilityChangedEvent event) {
+        invalidateRoom(event.getChatRoomId());
+    }
+
+    // 역색인으로 이 방이 들어 있는 페이지만 제거 (O(해당 페이지 수))
+    private void invalidateRoom(Long chatRoomId) {
+        roomVersions.set(stripeOf(chatRoomId), invalidationSeq.incrementAndGet());
+
+        Set<Entry> roomEntries = entriesByRoom.get(chatRoomId);
+        if (roomEntries == null) {
+            return;
+        }
+
+        for (Entry entry : roomEntries) {
+            if (remove(entry)) {
+                invalidations.increment();
+            }
+        }
+    }
+
+    private void invalidateIf(EntryPredicate predicate) {
+        for (Entry entry : entries.values()) {
+            if (predicate.test(entry) && remove(entry)) {
+                invalidations.increment();
+            }
+        }
+    }
+
+    // 조회를 시작한 뒤 이 페이지에 영향을 주는 무효화가 있었는지
+    private boolean changedSince(Entry entry, long loadedSeq) {
+        if (rangeVersion.get() > loadedSeq) {
+            return true;
+        }
+
+        for (Long chatRoomId : entry.roomIds()) {
+            if (roomVersions.get(stripeOf(chatRoomId)) > loadedSeq) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void put(Entry entry) {
+        Entry previous = entries.put(entry.key(), entry);
+        if (previous != null) {
+            unindex(previous);
+        }
+
+        for (Long chatRoomId : entry.roomIds()) {
+            entriesByRoom.computeIfAbsent(chatRoomId, id -> ConcurrentHashMap.newKeySet()).add(entry);
+        }
+
+        if (entries.size() > maxSize) {
+            evict();
+        }
+    }
+
+    // 같은 키로 새로 들어온 페이지는 건드리지 않도록 객체 단위로 제거
+    private boolean remove(Entry entry) {
+        if (!entries.remove(entry.key(), entry)) {
+            return false;
+        }
+
+        unindex(entry);
+        return true;
+    }
+
+    private void unindex(Entry entry) {
+        for (Long chatRoomId : entry.roomIds()) {
+            entriesByRoom.computeIfPresent(chatRoomId, (id, roomEntries) -> {
+                roomEntries.remove(entry);
+                return roomEntries.isEmpty() ? null : roomEntries;
+            });
+        }
+    }
+
+    // 최대 크기의 1/16만큼 여유를 두고 오래 쓰이지 않은 순으로 제거 (정렬 비용을 여러 put에 나눔)
+    private void evict() {
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+
+        try {
+            int excess = entries.size() - (maxSize - maxSize / 16);
+            if (excess <= 0) {
+                return;
+            }
+
+            // 정렬 중 접근 시각이 바뀌지 않도록 먼저 복사
+            List<Victim> victims = entries.values().stream()
+                    .map(entry -> new Victim(entry, entry.lastAccess()))
+                    .sorted(Comparator.comparingLong(Victim::lastAccess))
+                    .limit(excess)
+                    .toList();
+
+            for (Victim victim : victims) {
+                if (remove(victim.entry())) {
+                    evictions.increment();
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private int stripeOf(Long chatRoomId) {
+        return Math.floorMod(Long.hashCode(chatRoomId), ROOM_VERSION_STRIPES);
+    }
+
+    @FunctionalInterface
+    private interface EntryPredicate {
+        boolean test(Entry entry);
+    }
+
+    private record Key(boolean ascending, ChatTags tag, LocalDateTime createdAt, Long id, int size) {
+
+        boolean matchesTag(ChatTags chatTag) {
+            return tag == null || tag == chatTag;
+        }
+
+        // (createdAt, id)가 이 페이지의 조회 범위(커서 ~ 마지막 항목) 안에 있는지
+        boolean covers(LocalDateTime roomCreatedAt, Long roomId, Entry entry) {
+            int fromCursor = compare(roomCreatedAt, roomId, createdAt, id);
+            boolean afterCursor = ascending ? fromCursor > 0 : fromCursor < 0;
+            if (!afterCursor) {
+                return false;
+            }
+
+            ChatListResponse last = entry.last();
+            if (!entry.page().isHasNext() || last == null) {
+                return true;
+            }
+
+            int fromLast = compare(roomCreatedAt, roomId, last.getCreatedAt(), last.getChatRoomId());
+            return ascending ? fromLast <= 0 : fromLast >= 0;
+        }
+
+        private static int compare(LocalDateTime createdAt, Long id, LocalDateTime otherCreatedAt, Long otherId) {
+            int result = createdAt.compareTo(otherCreatedAt);
+            return result != 0 ? result : Long.compare(id, otherId);
+        }
+    }
+
+    private record Victim(Entry entry, long lastAccess) {
+    }
+
+    // 색인에서 객체 단위로 구분해야 하므로 record가 아닌 동일성 비교 클래스
+    private static final class Entry {
+        private final Key key;
+        private final ChatListPageResponse page;
+        private final Set<Long> roomIds;
+        private final long expiresAtNanos;
+        private volatile long lastAccess = System.nanoTime();
+
+        Entry(Key key, ChatListPageResponse page, long expiresAtNanos) {
+            this.key = key;
+            this.page = page;
+            this.expiresAtNanos = expiresAtNanos;
+            this.roomIds = page.getItems().stream()
+                    .map(ChatListResponse::getChatRoomId)
+                    .collect(Collectors.toUnmodifiableSet());
+        }
+
+        Key key() {
+            return key;
+        }
+
+        ChatListPageResponse page() {
+            return page;
+        }
+
+        Set<Long> roomIds() {
+            return roomIds;
+        }
+
+        long lastAccess() {
+            return lastAccess;
+        }
+
+        void touch(long now) {
+            lastAccess = now;
+        }
+
+        boolean isExpired(long now) {
+            return now - expiresAtNanos >= 0;
+        }
+
+        boolean contains(Long chatRoomId) {
+            return roomIds.contains(chatRoomId);
+        }
+
+        ChatListResponse last() {
+            List<ChatListResponse> items = page.getItems();
+            return items.isEmpty() ? null : items.get(items.size() - 1);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.bumil_backend.service;
+
+import com.example.bumil_backend.event.ChatMessageWriteFailedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 지연 저장에 끝내 실패한 채팅 메시지 보관 (DB 장애 중에도 남도록 DB가 아닌 파일에 한 줄씩 JSON으로 추가)
+// 복구 시 id가 그대로 있으므로 중복 확인 후 chat_messages에 다시 넣으면 됨
+@Slf4j
+@Component
+public class ChatMessageDeadLetter {
+
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Path path;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LongAdder deadLetters = new LongAdder();
+
+    public ChatMessageDeadLetter(
+            ObjectMapper objectMapper,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${chat.message.write-behind.dead-letter-file:logs/chat-message-dead-letter.jsonl}") String path
+    ) {
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.path = Path.of(path);
+    }
+
+    public long getCount() {
+        return deadLetters.sum();
+    }
+
+    public void write(List<ChatMessageWriter.PendingMessage> messages, Exception cause) {
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        StringBuilder lines = new StringBuilder();
+        for (ChatMessageWriter.PendingMessage message : messages) {
+            lines.append(objectMapper.writeValueAsString(
+                    new DeadLetter(message, String.valueOf(cause.getMessage()), LocalDateTime.now())))
+                    .append('\n');
+        }
+
+        lock.lock();
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Files.writeString(path, lines, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            deadLetters.add(messages.size());
+        } catch (IOException e) {
+            // 파일도 쓸 수 없으면 로그가 마지막 기록
+            log.error("dead-letter 기록 실패, 메시지를 로그로 남깁니다: {}", lines, e);
+        } finally {
+            lock.unlock();
+        }
+
+        // 최근 메시지 버퍼 등에서 DB에 없는 메시지를 내보내지 않도록 알림
+        messages.forEach(message ->
+                eventPublisher.publishEvent(new ChatMessageWriteFailedEvent(message.chatRoomId(), message.id())));
+    }
+
+    private record DeadLetter(ChatMessageWriter.PendingMessage message, String error, LocalDateTime failedAt) {
+    }
+}
@@ -0,0 +1,228 @@
+package com.example.bumil_backend.service;
+
+import com.example.bumil_backend.event.ChatRoomDeletedEvent;
+import com.example.bumil_backend.repository.ChatMessageRepository;
+import com.example.bumil_backend.repository.ChatRoomSeqRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+
+// 채팅방별 메시지 순번 (1부터 단조 증가, 연속은 보장하지 않음)
+// memory  : 방마다 처음 한 번만 DB의 마지막 순번을 읽고 이후는 메모리에서 발급 (단일 노드 전용)
+// database: chat_room_seqs 행을 원자적으로 증가시켜 발급 (여러 노드 공유, 저장 등록 실패 시 빈틈이 생길 수 있음)
+// 두 모드 모두 지연 저장(ChatMessageWriter)이 끝내 실패해 dead-letter로 간 행은 이미 전송된 순번이라 빈틈으로 남음
+// 여러 노드가 같은 방에 메시지를 쓰는 relay 모드에서 memory는 순번이 겹치므로 시작을 거부
+@Slf4j
+@Component
+public class ChatMessageSequencer {
+
+    // LAST_INSERT_ID(expr): 증가된 값을 같은 연결에서 추가 잠금 없이 읽음
+    private static final String NEXT_SEQ =
+            "UPDATE chat_room_seqs SET last_seq = LAST_INSERT_ID(last_seq + 1) WHERE chat_room_id = ?";
+    // 카운터가 없는 방은 현재 마지막 순번으로 생성 (동시에 생성해도 기존 값 유지)
+    private static final String INIT_SEQ = """
+            INSERT INTO chat_room_seqs (chat_room_id, last_seq)
+            SELECT ?, COALESCE(MAX(seq), 0) FROM chat_messages WHERE chat_room_id = ?
+            ON DUPLICATE KEY UPDATE last_seq = last_seq
+            """;
+
+    private final ChatMessageRepository chatMessageRepository;
+    private final ChatRoomSeqRepository chatRoomSeqRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean database;
+    private final boolean backfillEnabled;
+
+    private final ConcurrentHashMap<Long, RoomCounter> lastSeqByRoom = new ConcurrentHashMap<>();
+
+    public ChatMessageSequencer(
+            ChatMessageRepository chatMessageRepository,
+            ChatRoomSeqRepository chatRoomSeqRepository,
+            JdbcTemplate jdbcTemplate,
+            // memory | database
+            @Value("${chat.message.sequencer.mode:memory}") String mode,
+            @Value("${websocket.broker.mode:simple}") String brokerMode,
+            @Value("${chat.message.sequencer.backfill.enabled:false}") boolean backfillEnabled
+    ) {
+        this.chatMessageRepository = chatMessageRepository;
+        this.chatRoomSeqRepository = chatRoomSeqRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.backfillEnabled = backfillEnabled;
+
+        if (!"memory".equalsIgnoreCase(mode) && !"database".equalsIgnoreCase(mode)) {
+            throw new IllegalStateException("chat.message.sequencer.mode는 memory 또는 database 여야 합니다: " + mode);
+        }
+        this.database = "database".equalsIgnoreCase(mode);
+
+        if (!database && "relay".equalsIgnoreCase(brokerMode)) {
+            throw new IllegalStateException(
+                    "websocket.broker.mode=relay (다중 노드)에서는 chat.message.sequencer.mode=database 가 필요합니다.");
+        }
+    }
+
+    // 순번 도입 전 메시지 채우기 (일회성, 필요할 때 한 노드에서만 backfill.enabled=true로 실행)
+    // 순번이 없는 행만 방의 기존 마지막 순번 다음부터 채움 (이미 발급된 순번은 바꾸지 않음)
+    @PostConstruct
+    public void backfill() {
+        if (!backfillEnabled) {
+            return;
+        }
+
+        int numbered = jdbcTemplate.update("""
+                UPDATE chat_messages m
+                JOIN (
+                    SELECT n.id,
+                           COALESCE(last.max_seq, 0)
+                               + ROW_NUMBER() OVER (PARTITION BY n.chat_room_id ORDER BY n.created_at, n.id) AS seq
+                    FROM chat_messages n
+                    LEFT JOIN (
+                        SELECT chat_room_id, MAX(seq) AS max_seq
+                        FROM chat_messages
+                        WHERE seq IS NOT NULL
+                        GROUP BY chat_room_id
+                    ) last ON last.chat_room_id = n.chat_room_id
+                    WHERE n.seq IS NULL
+                ) r ON m.id = r.id
+                SET m.seq = r.seq
+                """);
+        log.info("채팅 메시지 순번 채우기 완료: {}건", numbered);
+    }
+
+    // 다음 순번으로 store(저장 등록) 후 publish(전송), 방 단위로 직렬화
+    // memory: store가 실패하면 순번을 소비하지 않음 (같은 방은 순번 순서대로 전송)
+    // database: 이 노드 안에서만 순번 순서대로 전송 (노드 간 도착 순서는 클라이언트가 seq로 정렬)
+    public <T> void withNextSeq(Long chatRoomId, LongFunction<T> store, Consumer<T> publish) {
+        RoomCounter counter = lastSeqByRoom.computeIfAbsent(
+                chatRoomId, id -> new RoomCounter(database ? 0 : chatMessageRepository.findLastSeq(id)));
+
+        counter.lock.lock();
+        try {
+            long seq = database ? allocate(chatRoomId) : counter.lastSeq + 1;
+            T stored = store.apply(seq);
+            counter.lastSeq = seq;
+            publish.accept(stored);
+        } finally {
+            counter.lock.unlock();
+        }
+    }
+
+    // 이 노드에서 마지막으로 발급한 순번 (부팅 후 발급한 적이 없으면 empty)
+    public OptionalLong lastIssued(Long chatRoomId) {
+        RoomCounter counter = lastSeqByRoom.get(chatRoomId);
+        return counter == null || counter.lastSeq == 0 ? OptionalLong.empty() : OptionalLong.of(counter.lastSeq);
+    }
+
+    // 여러 방의 마지막 순번
+    // memory: 메모리에 없는 방만 한 번에 조회해 카운터로 등록, database: 다른 노드의 발급도 반영되도록 매번 공유 카운터 조회
+    public Map<Long, Long> lastSeqs(Collection<Long> chatRoomIds) {
+        if (database) {
+            return loadSharedLastSeqs(chatRoomIds);
+        }
+
+        Map<Long, Long> result = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+
+        for (Long chatRoomId : chatRoomIds) {
+            RoomCounter counter = lastSeqByRoom.get(chatRoomId);
+            if (counter != null) {
+                result.put(chatRoomId, counter.lastSeq);
+            } else {
+                missing.add(chatRoomId);
+            }
+        }
+
+        if (missing.isEmpty()) {
+            return result;
+        }
+
+        Map<Long, Long> loaded = new HashMap<>();
+        missing.forEach(chatRoomId -> loaded.put(chatRoomId, 0L));
+        chatMessageRepository.findLastSeqs(missing)
+                .forEach(lastSeq -> loaded.put(lastSeq.getChatRoomId(), lastSeq.getLastSeq()));
+
+        // 조회 중 다른 스레드가 먼저 등록했으면 그 값을 사용
+        loaded.forEach((chatRoomId, lastSeq) -> result.put(chatRoomId,
+                lastSeqByRoom.computeIfAbsent(chatRoomId, id -> new RoomCounter(lastSeq)).lastSeq));
+        return result;
+    }
+
+    private Map<Long, Long> loadSharedLastSeqs(Collection<Long> chatRoomIds) {
+        Map<Long, Long> result = new HashMap<>();
+        if (chatRoomIds.isEmpty()) {
+            return result;
+        }
+
+        chatRoomSeqRepository.findAllById(chatRoomIds)
+                .forEach(counter -> result.put(counter.getChatRoomId(), counter.getLastSeq()));
+
+        // 아직 카운터가 없는 방 (database 모드 전환 후 메시지가 없던 방)
+        List<Long> missing = chatRoomIds.stream().filter(id -> !result.containsKey(id)).toList();
+        if (!missing.isEmpty()) {
+            missing.forEach(chatRoomId -> result.put(chatRoomId, 0L));
+            chatMessageRepository.findLastSeqs(missing)
+                    .forEach(lastSeq -> result.put(lastSeq.getChatRoomId(), lastSeq.getLastSeq()));
+        }
+        return result;
+    }
+
+    // 공유 카운터 증가 (UPDATE와 LAST_INSERT_ID 조회는 같은 연결에서 실행)
+    private long allocate(Long chatRoomId) {
+        return jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            if (increment(connection, chatRoomId) == 0) {
+                try (PreparedStatement init = connection.prepareStatement(INIT_SEQ)) {
+                    init.setLong(1, chatRoomId);
+                    init.setLong(2, chatRoomId);
+                    init.executeUpdate();
+                }
+                increment(connection, chatRoomId);
+            }
+
+            try (Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery("SELECT LAST_INSERT_ID()")) {
+                resultSet.next();
+                return resultSet.getLong(1);
+            }
+        });
+    }
+
+    private int increment(Connection connection, Long chatRoomId) throws SQLException {
+        try (PreparedStatement update = connection.prepareStatement(NEXT_SEQ)) {
+            update.setLong(1, chatRoomId);
+            return update.executeUpdate();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onChatRoomDeleted(ChatRoomDeletedEvent event) {
+        lastSeqByRoom.remove(event.getChatRoomId());
+    }
+
+    // 가상 스레드 고정(pinning)을 피하기 위해 synchronized 대신 ReentrantLock
+    private static final class RoomCounter {
+        private final ReentrantLock lock = new ReentrantLock();
+        private volatile long lastSeq;
+
+        private RoomCounter(long lastSeq) {
+            this.lastSeq = lastSeq;
+        }
+    }
+}
@@ -0,0 +1,278 @@
+package com.example.bumil_backend.service;
+
+import com.example.bumil_backend.common.exception.TooManyRequestsException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 채팅 메시지 지연 저장 (전송은 즉시, 저장은 큐에 모아 다중 행 INSERT)
+// 일시적 오류(연결 끊김, 락 대기 초과 등)는 간격을 늘려가며 재시도, 끝내 저장하지 못한 행은 ChatMessageDeadLetter에 기록
+@Slf4j
+@Component
+public class ChatMessageWriter implements SmartLifecycle {
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO chat_messages (id, seq, message, is_deleted, created_at, sender, chat_room_id) VALUES ";
+    private static final String ROW_VALUES = "(?, ?, ?, false, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ChatMessageDeadLetter deadLetter;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final long offerTimeoutMillis;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+    private final long retryMaxBackoffMillis;
+    private final BlockingQueue<PendingMessage> queue;
+
+    // enqueue(읽기)와 stop(쓰기)을 구분: stop 이후에 큐에 들어가 마지막 저장에서 빠지는 메시지가 없도록
+    private final ReentrantReadWriteLock lifecycleLock = new ReentrantReadWriteLock();
+
+    private volatile boolean running = false;
+    private Thread worker;
+
+    public ChatMessageWriter(
+            JdbcTemplate jdbcTemplate,
+            ChatMessageDeadLetter deadLetter,
+            @Value("${chat.message.write-behind.enabled:true}") boolean enabled,
+            @Value("${chat.message.write-behind.queue-capacity:10000}") int queueCapacity,
+            @Value("${chat.message.write-behind.batch-size:200}") int batchSize,
+            @Value("${chat.message.write-behind.flush-interval-ms:50}") long flushIntervalMillis,
+            @Value("${chat.message.write-behind.offer-timeout-ms:100}") long offerTimeoutMillis,
+            @Value("${chat.message.write-behind.max-attempts:5}") int maxAttempts,
+            @Value("${chat.message.write-behind.retry-backoff-ms:100}") long retryBackoffMillis,
+            @Value("${chat.message.write-behind.retry-max-backoff-ms:5000}") long retryMaxBackoffMillis
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.deadLetter = deadLetter;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        this.offerTimeoutMillis = offerTimeoutMillis;
+        this.maxAttempts = Math.max(maxAttempts, 1);
+        this.retryBackoffMillis = retryBackoffMillis;
+        this.retryMaxBackoffMillis = retryMaxBackoffMillis;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    // false면 호출 측에서 동기 저장
+    public boolean isWriteBehind() {
+        return running;
+    }
+
+    // 큐가 가득 차면 offer-timeout 동안 대기, 그래도 자리가 없으면 전송 거부 (backpressure)
+    // 종료가 시작된 뒤에는 받지 않음 (호출 측에서 순번을 확정하지 않으므로 전송되지 않음)
+    public void enqueue(PendingMessage message) {
+        lifecycleLock.readLock().lock();
+        try {
+            if (!running) {
+                throw new TooManyRequestsException("서버가 종료 중입니다. 잠시 후 다시 시도해주세요.");
+            }
+            if (!queue.offer(message, offerTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new TooManyRequestsException("메시지 전송이 지연되고 있습니다. 잠시 후 다시 시도해주세요.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TooManyRequestsException("메시지 전송이 지연되고 있습니다. 잠시 후 다시 시도해주세요.");
+        } finally {
+            lifecycleLock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void start() {
+        if (!enabled || running) {
+            return;
+        }
+
+        running = true;
+        worker = new Thread(this::drainLoop, "chat-message-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    // 종료 시 큐에 남은 메시지를 모두 저장 (DataSource 종료 전 Lifecycle 단계에서 실행)
+    // 쓰기 잠금으로 진행 중인 enqueue가 끝난 뒤 running을 내리므로, 아래 drain 이후 큐에 들어오는 메시지는 없음
+    @Override
+    public void stop() {
+        lifecycleLock.writeLock().lock();
+        try {
+            if (!running) {
+                return;
+            }
+            running = false;
+        } finally {
+            lifecycleLock.writeLock().unlock();
+        }
+
+        try {
+            // 재시도 중인 배치가 끝날 때까지 대기
+            worker.join(TimeUnit.NANOSECONDS.toMillis(flushIntervalNanos) + maxAttempts * retryMaxBackoffMillis + 5000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        List<PendingMessage> remaining = new ArrayList<>(batchSize);
+        while (queue.drainTo(remaining, batchSize) > 0) {
+            write(remaining);
+            remaining.clear();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void drainLoop() {
+        List<PendingMessage> batch = new ArrayList<>(batchSize);
+
+        while (running) {
+            try {
+                PendingMessage first = queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+
+                batch.add(first);
+                fillBatch(batch);
+                write(batch);
+            } catch (InterruptedException e) {
+                // 모으던 메시지는 저장 후 종료 (나머지는 stop()에서 저장)
+                Thread.currentThread().interrupt();
+                write(batch);
+                return;
+            } catch (RuntimeException e) {
+                // 예상하지 못한 오류도 배치를 버리지 않음
+                log.error("채팅 메시지 저장 중 오류, dead-letter로 보관합니다. size={}", batch.size(), e);
+                deadLetter.write(batch, e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    // batch-size가 찰 때까지, 최대 flush-interval 동안 모음
+    private void fillBatch(List<PendingMessage> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + flushIntervalNanos;
+
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            if (batch.size() >= batchSize) {
+                return;
+            }
+
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return;
+            }
+
+            PendingMessage next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void write(List<PendingMessage> batch) {
+        try {
+            insertWithRetry(batch);
+            return;
+        } catch (DataAccessException e) {
+            if (isTransient(e)) {
+                // 재시도 후에도 DB를 쓸 수 없음 -> 행 단위로 나눠도 같은 결과이므로 그대로 보관
+                log.error("채팅 메시지 일괄 저장 재시도 실패, dead-letter로 보관합니다. size={}", batch.size(), e);
+                deadLetter.write(batch, e);
+                return;
+            }
+            log.warn("채팅 메시지 일괄 저장 실패, 한 건씩 재시도합니다. size={}", batch.size(), e);
+        }
+
+        // 제약 조건 위반 등 특정 행 문제 -> 해당 행만 dead-letter로
+        for (PendingMessage message : batch) {
+            try {
+                insertWithRetry(List.of(message));
+            } catch (DataAccessException ex) {
+                log.error("채팅 메시지 저장 실패 id={}, roomId={}, senderId={}",
+                        message.id(), message.chatRoomId(), message.senderId(), ex);
+                deadLetter.write(List.of(message), ex);
+            }
+        }
+    }
+
+    // 일시적 오류만 지수 백오프로 재시도 (그 동안 큐가 차면 enqueue에서 전송 거부)
+    private void insertWithRetry(List<PendingMessage> rows) {
+        long backoff = retryBackoffMillis;
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                insert(rows);
+                return;
+            } catch (DataAccessException e) {
+                if (!isTransient(e) || attempt >= maxAttempts) {
+                    throw e;
+                }
+
+                log.warn("채팅 메시지 저장 일시 오류, {}ms 후 재시도합니다. attempt={}/{}", backoff, attempt, maxAttempts);
+                if (!sleep(backoff)) {
+                    throw e;
+                }
+                backoff = Math.min(backoff * 2, retryMaxBackoffMillis);
+            }
+        }
+    }
+
+    private boolean isTransient(DataAccessException e) {
+        return e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof DataAccessResourceFailureException;
+    }
+
+    private boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void insert(List<PendingMessage> rows) {
+        String sql = INSERT_PREFIX + String.join(", ", Collections.nCopies(rows.size(), ROW_VALUES));
+
+        jdbcTemplate.update(sql, ps -> {
+            int index = 1;
+            for (PendingMessage row : rows) {
+                ps.setLong(index++, row.id());
+                ps.setLong(index++, row.seq());
+                ps.setString(index++, row.message());
+                ps.setTimestamp(index++, Timestamp.valueOf(row.createdAt()));
+                ps.setLong(index++, row.senderId());
+                ps.setLong(index++, row.chatRoomId());
+            }
+        });
+    }
+
+    // id: SnowflakeIdGenerator로 미리 발급
+    public record PendingMessage(Long id, Long seq, Long chatRoomId, Long senderId, String message, LocalDateTime createdAt) {
+    }
+}
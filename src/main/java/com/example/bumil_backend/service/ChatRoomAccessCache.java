@@ -0,0 +1,163 @@
+package com.example.bumil_backend.service;
+
+import com.example.bumil_backend.common.exception.NotAcceptableUserException;
+import com.example.bumil_backend.common.exception.ResourceNotFoundException;
+import com.example.bumil_backend.common.exception.UserNotFoundException;
+import com.example.bumil_backend.enums.Role;
+import com.example.bumil_backend.event.ChatRoomDeletedEvent;
+import com.example.bumil_backend.event.UserAccessChangedEvent;
+import com.example.bumil_backend.repository.ChatRoomRepository;
+import com.example.bumil_backend.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+// 채팅방 접근 권한(작성자 or 관리자) 판단 캐시, (userId, chatRoomId) 단위
+// 키 해시로 나눈 구간마다 별도 락과 LRU를 두어 조회가 하나의 락에 몰리지 않도록 함
+// 무효화 이벤트는 이 노드에서 커밋된 변경만 받으므로, relay 모드에서 다른 노드의 변경은 ttl-seconds 안에 반영
+@Component
+public class ChatRoomAccessCache {
+
+    private static final int SEGMENTS = 64;
+
+    private final ChatRoomRepository chatRoomRepository;
+    private final UserRepository userRepository;
+    private final long ttlNanos;
+    private final Segment[] segments;
+
+    // 무효화가 일어날 때마다 증가 (조회 중 변경된 판단이 캐시에 들어가지 않도록)
+    private final AtomicLong generation = new AtomicLong();
+
+    public ChatRoomAccessCache(
+            ChatRoomRepository chatRoomRepository,
+            UserRepository userRepository,
+            @Value("${chat.access.cache.max-entries:10000}") int maxSize,
+            @Value("${chat.access.cache.ttl-seconds:60}") long ttlSeconds
+    ) {
+        this.chatRoomRepository = chatRoomRepository;
+        this.userRepository = userRepository;
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        this.segments = createSegments(Math.max(1, (maxSize + SEGMENTS - 1) / SEGMENTS));
+    }
+
+    // 권한이 없으면 예외, 캐시 적중 시 DB 조회 없음
+    public void checkAccess(Long userId, Long chatRoomId) {
+        Key key = new Key(userId, chatRoomId);
+        Segment segment = segments[Math.floorMod(key.hashCode(), SEGMENTS)];
+
+        Boolean allowed = segment.get(key, System.nanoTime());
+
+        if (allowed == null) {
+            long loadedGeneration = generation.get();
+            allowed = load(userId, chatRoomId);
+            segment.putIfCurrent(key, new Decision(allowed, System.nanoTime() + ttlNanos), loadedGeneration);
+        }
+
+        if (!allowed) {
+            throw new NotAcceptableUserException("해당 채팅방에 대한 권한이 없습니다.");
+        }
+    }
+
+    // 없는 채팅방/사용자는 캐시하지 않음 (이후 생성될 수 있는 id)
+    private boolean load(Long userId, Long chatRoomId) {
+        Long authorId = chatRoomRepository.findAuthorIdByIdAndIsDeletedFalse(chatRoomId)
+                .orElseThrow(() -> new ResourceNotFoundException("해당 채팅방을 찾을 수 없습니다."));
+
+        Role role = userRepository.findRoleByIdAndIsDeletedFalse(userId)
+                .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다."));
+
+        return authorId.equals(userId) || role == Role.ADMIN;
+    }
+
+    @TransactionalEventListener
+    public void onChatRoomDeleted(ChatRoomDeletedEvent event) {
+        invalidateIf(key -> key.chatRoomId().equals(event.getChatRoomId()));
+    }
+
+    @TransactionalEventListener
+    public void onUserAccessChanged(UserAccessChangedEvent event) {
+        invalidateIf(key -> key.userId().equals(event.getUserId()));
+    }
+
+    // 세대를 먼저 올린 뒤 구간별로 제거 (제거가 끝난 구간에 이전 세대의 조회 결과가 들어가지 않음)
+    private void invalidateIf(Predicate<Key> predicate) {
+        generation.incrementAndGet();
+        for (Segment segment : segments) {
+            segment.removeIf(predicate);
+        }
+    }
+
+    private Segment[] createSegments(int maxSizePerSegment) {
+        Segment[] created = new Segment[SEGMENTS];
+        for (int i = 0; i < SEGMENTS; i++) {
+            created[i] = new Segment(maxSizePerSegment);
+        }
+        return created;
+    }
+
+    private record Key(Long userId, Long chatRoomId) {
+    }
+
+    private record Decision(boolean allowed, long expiresAtNanos) {
+    }
+
+    // 가상 스레드 고정(pinning)을 피하기 위해 synchronized 대신 ReentrantLock
+    private final class Segment {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LinkedHashMap<Key, Decision> decisions;
+
+        private Segment(int maxSize) {
+            this.decisions = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Key, Decision> eldest) {
+                    return size() > maxSize;
+                }
+            };
+        }
+
+        // 만료된 판단은 제거하고 null
+        private Boolean get(Key key, long now) {
+            lock.lock();
+            try {
+                Decision decision = decisions.get(key);
+                if (decision == null) {
+                    return null;
+                }
+                if (now - decision.expiresAtNanos() >= 0) {
+                    decisions.remove(key);
+                    return null;
+                }
+                return decision.allowed();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void putIfCurrent(Key key, Decision decision, long loadedGeneration) {
+            lock.lock();
+            try {
+                if (generation.get() == loadedGeneration) {
+                    decisions.put(key, decision);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void removeIf(Predicate<Key> predicate) {
+            lock.lock();
+            try {
+                decisions.keySet().removeIf(predicate);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -3,16 +3,25 @@ package com.example.bumil_backend.service;
 import com.example.bumil_backend.common.exception.BadRequestException;
 import com.example.bumil_backend.common.exception.NotAcceptableUserException;
 import com.example.bumil_backend.common.exception.ResourceNotFoundException;
+import com.example.bumil_backend.common.id.SnowflakeIdGenerator;
+import com.example.bumil_backend.dto.chat.cursor.ChatListCursor;
+import com.example.bumil_backend.dto.chat.reaction.MyReaction;
 import com.example.bumil_backend.dto.chat.reaction.ReactionCount;
 import com.example.bumil_backend.dto.chat.request.ChatCreateRequest;
 import com.example.bumil_backend.dto.chat.request.ChatCloseRequest;
 import com.example.bumil_backend.dto.chat.request.ChatReactionRequest;
 import com.example.bumil_backend.dto.chat.request.ChatSettingRequest;
 import com.example.bumil_backend.dto.chat.response.*;
+import com.example.bumil_backend.dto.message.ChatMessageDto;
 import com.example.bumil_backend.entity.*;
 import com.example.bumil_backend.enums.ChatTags;
+import com.example.bumil_backend.event.ChatReactionChangedEvent;
+import com.example.bumil_backend.event.ChatRoomCreatedEvent;
+import com.example.bumil_backend.event.ChatRoomDeletedEvent;
+import com.example.bumil_backend.event.ChatRoomTagChangedEvent;
+import com.example.bumil_backend.event.ChatRoomVisibilityChangedEvent;
+import com.example.bumil_backend.enums.ReactionTransition;
 import com.example.bumil_backend.enums.ReactionType;
-import com.example.bumil_backend.enums.Role;
 import com.example.bumil_backend.enums.Tag;
 import com.example.bumil_backend.repository.ChatMessageRepository;
 import com.example.bumil_backend.repository.ChatRoomReactionRepository;
@@ -20,14 +29,20 @@ import com.example.bumil_backend.repository.ChatRoomRepository;
 import com.example.bumil_backend.repository.UserRepository;
 import com.example.bumil_backend.security.SecurityUtils;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Sort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -40,6 +55,23 @@ public class ChatService {
     private final SecurityUtils securityUtils;
     private final ChatRoomReactionRepository chatRoomReactionRepository;
     private final ChatMessageRepository chatMessageRepository;
+    private final BestChatLeaderboard bestChatLeaderboard;
+    private final ChatListCache chatListCache;
+    private final ChatTitleSearchIndex chatTitleSearchIndex;
+    private final ChatAutocompleteIndex chatAutocompleteIndex;
+    private final ChatRoomAccessCache chatRoomAccessCache;
+    private final SnowflakeIdGenerator snowflakeIdGenerator;
+    private final RecentMessageBuffer recentMessageBuffer;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${chat.list.default-page-size:20}")
+    private int defaultPageSize;
+
+    @Value("${chat.list.max-page-size:100}")
+    private int maxPageSize;
+
+    @Value("${chat.best.max-limit:50}")
+    private int maxBestLimit;
 
     // 채팅방 생성
     public ChatCreateResponse createChat(ChatCreateRequest request) {
@@ -59,6 +91,8 @@ public class ChatService {
                 .build();
 
         ChatRoom saved = chatRoomRepository.save(chatRoom);
+        eventPublisher.publishEvent(new ChatRoomCreatedEvent(
+                saved.getId(), saved.getCreatedAt(), saved.getTag()));
 
         return ChatCreateResponse.builder()
                 .chatId(saved.getId())
@@ -69,60 +103,88 @@ public class ChatService {
     }
 
     //공개된 채팅방 조회
+    // 인증 필터(CustomUserDetailService)에서 이미 삭제되지 않은 유저인지 확인하므로 별도 조회하지 않음
     @Transactional(readOnly = true)
-    public List<ChatListResponse> getPublicChatList(String dateFilter, String tag) {
+    public ChatListPageResponse getPublicChatList(String dateFilter, String tag, String cursor, Integer size) {
+
+        validateFilters(dateFilter, tag);
+
+        boolean ascending = "OLDEST".equals(dateFilter);
+        ChatListCursor pageCursor = ChatListCursor.decode(cursor, ascending);
+        int pageSize = resolvePageSize(size);
+        ChatTags searchTag = toChatTag(tag);
 
+        ChatListPageResponse page = chatListCache.getOrLoad(
+                ascending, searchTag, pageCursor, pageSize,
+                () -> loadPublicChatList(ascending, searchTag, pageCursor, pageSize)
+        );
+
+        // 베스트 여부, 내 리액션은 캐시하지 않고 응답 시점에 표시
+        Long bestChatRoomId = bestChatLeaderboard.getBestChatRoomId();
         String email = SecurityContextHolder.getContext().getAuthentication().getName();
-        userRepository.findByEmailAndIsDeletedFalse(email)
-                .orElseThrow(() -> new ResourceNotFoundException("존재하지 않는 유저입니다."));
+        Map<Long, String> myReactions = findMyReactions(
+                chatRoomReactionRepository.findMyReactionsByEmail(email, chatRoomIds(page.getItems())));
+
+        return ChatListPageResponse.builder()
+                .items(page.getItems().stream()
+                        .map(chat -> chat.toBuilder()
+                                .best(chat.getChatRoomId().equals(bestChatRoomId))
+                                .myReaction(myReactions.get(chat.getChatRoomId()))
+                                .build())
+                        .toList())
+                .next(page.getNext())
+                .hasNext(page.isHasNext())
+                .build();
+    }
 
-        validateFilters(dateFilter, tag);
+    private ChatListPageResponse loadPublicChatList(
+            boolean ascending,
+            ChatTags searchTag,
+            ChatListCursor pageCursor,
+            int pageSize
+    ) {
+        // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+        Limit limit = Limit.of(pageSize + 1);
 
-        Sort sort = "OLDEST".equals(dateFilter)
-                ? Sort.by("createdAt").ascending()
-                : Sort.by("createdAt").descending();
+        List<ChatListResponse> chatList = ascending
+                ? chatRoomRepository.findChatListOldest(searchTag, pageCursor.getCreatedAt(), pageCursor.getId(), limit)
+                : chatRoomRepository.findChatListRecent(searchTag, pageCursor.getCreatedAt(), pageCursor.getId(), limit);
 
-        Tag searchTag = (tag != null && !tag.isBlank())
-                ? Tag.valueOf(tag.toUpperCase())
-                : null;
+        return toPage(chatList, pageSize);
+    }
 
-        List<ChatRoom> chatRooms =
-                chatRoomRepository.findAllByTagAndIsDeletedFalse(searchTag, sort);
+    // 베스트 채팅 목록 (LIKE 순)
+    @Transactional(readOnly = true)
+    public List<ChatListResponse> getBestChatList(Integer limit) {
+        int bestLimit = (limit == null) ? 10 : limit;
+        if (bestLimit < 1) {
+            throw new BadRequestException("조회 개수는 1 이상이어야 합니다.");
+        }
 
-        // chatRoomId -> LIKE 개수
-        Map<Long, Long> likeCountMap = chatRooms.stream()
-                .collect(Collectors.toMap(
-                        ChatRoom::getId,
-                        chatRoom -> chatRoom.getReactions().stream()
-                                .filter(r -> r.getReactionType() == ReactionType.LIKE)
-                                .count()
-                ));
+        List<Long> rankedIds = bestChatLeaderboard.top(Math.min(bestLimit, maxBestLimit));
+        if (rankedIds.isEmpty()) {
+            return List.of();
+        }
 
-        // 최대 LIKE 수 가진 chatRoomId
-        Long bestChatRoomId = likeCountMap.entrySet().stream()
-                .max(Map.Entry.comparingByValue())
-                .filter(e -> e.getValue() > 0)
-                .map(Map.Entry::getKey)
-                .orElse(null);
+        Map<Long, ChatListResponse> chatById = chatRoomRepository.findChatListByIds(rankedIds).stream()
+                .collect(Collectors.toMap(ChatListResponse::getChatRoomId, Function.identity()));
 
-        return chatRooms.stream()
-                .map(chatRoom -> {
-
-                    ReactionCount reactionCount = countReactions(chatRoom);
-
-                    return ChatListResponse.builder()
-                            .chatRoomId(chatRoom.getId())
-                            .best(chatRoom.getId().equals(bestChatRoomId))
-                            .likeCnt(reactionCount.getLikeCnt())
-                            .dislikeCnt(reactionCount.getDislikeCnt())
-                            .title(chatRoom.getTitle())
-                            .tag(chatRoom.getTag().name())
-                            .author(chatRoom.getAuthor().getName())
-                            .createdAt(chatRoom.getCreatedAt())
-                            .build();
-                })
+        List<ChatListResponse> bestChatList = rankedIds.stream()
+                .map(chatById::get)
+                .filter(Objects::nonNull)
                 .toList();
 
+        String email = SecurityContextHolder.getContext().getAuthentication().getName();
+        Map<Long, String> myReactions = findMyReactions(
+                chatRoomReactionRepository.findMyReactionsByEmail(email, chatRoomIds(bestChatList)));
+
+        Long bestChatRoomId = rankedIds.get(0);
+        bestChatList.forEach(chat -> {
+            chat.setBest(chat.getChatRoomId().equals(bestChatRoomId));
+            chat.setMyReaction(myReactions.get(chat.getChatRoomId()));
+        });
+
+        return bestChatList;
     }
 
     // 채팅방 상태 병경(준비중-> 채택, 반려, 종료)
@@ -137,10 +199,12 @@ public class ChatService {
         }
 
         chatRoom.changeTag(request.getTag());
+        eventPublisher.publishEvent(new ChatRoomTagChangedEvent(
+                chatRoom.getId(), chatRoom.getCreatedAt(), chatRoom.getTag()));
     }
 
     @Transactional(readOnly = true)
-    public List<ChatListResponse> getUserChatList(String dateFilter, String tag) {
+    public ChatListPageResponse getUserChatList(String dateFilter, String tag, String cursor, Integer size) {
         String email = SecurityContextHolder.getContext().getAuthentication().getName();
         Users author = userRepository.findByEmailAndIsDeletedFalse(email)
                 .orElseThrow(() -> new ResourceNotFoundException("존재하지 않는 유저입니다."));
@@ -149,24 +213,78 @@ public class ChatService {
         validateFilters(dateFilter, tag);
 
         // 정렬 조건
-        Sort sort = "OLDEST".equals(dateFilter) ? Sort.by("createdAt").ascending() : Sort.by("createdAt").descending();
+        boolean ascending = "OLDEST".equals(dateFilter);
+        ChatListCursor pageCursor = ChatListCursor.decode(cursor, ascending);
+        int pageSize = resolvePageSize(size);
 
         // String -> Enum
-        Tag searchTag = (tag != null && !tag.isBlank()) ? Tag.valueOf(tag.toUpperCase()) : null;
-
-        List<ChatRoom> chatRooms = chatRoomRepository.findByTagAndAuthorAndIsDeletedFalse(searchTag, author, sort);
-        return chatRooms.stream()
-                .map(chatRoom -> ChatListResponse.builder()
-                        .chatRoomId(chatRoom.getId())
-                        .title(chatRoom.getTitle())
-                        .tag(chatRoom.getTag().name())
-                        .author(chatRoom.getAuthor().getName())
-                        .createdAt(chatRoom.getCreatedAt())
-                        .build()
-                )
+        ChatTags searchTag = toChatTag(tag);
+
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<ChatListResponse> chatList = ascending
+                ? chatRoomRepository.findUserChatListOldest(author.getId(), searchTag, pageCursor.getCreatedAt(), pageCursor.getId(), limit)
+                : chatRoomRepository.findUserChatListRecent(author.getId(), searchTag, pageCursor.getCreatedAt(), pageCursor.getId(), limit);
+
+        Map<Long, String> myReactions = findMyReactions(
+                chatRoomReactionRepository.findMyReactions(author.getId(), chatRoomIds(chatList)));
+        chatList.forEach(chat -> chat.setMyReaction(myReactions.get(chat.getChatRoomId())));
+
+        return toPage(chatList, pageSize);
+    }
+
+    private List<Long> chatRoomIds(List<ChatListResponse> chatList) {
+        return chatList.stream()
+                .map(ChatListResponse::getChatRoomId)
                 .toList();
     }
 
+    // chatRoomId -> 내 리액션
+    private Map<Long, String> findMyReactions(List<MyReaction> reactions) {
+        return reactions.stream()
+                .collect(Collectors.toMap(
+                        MyReaction::getChatRoomId,
+                        reaction -> reaction.getReactionType().name()
+                ));
+    }
+
+    // 조회 결과 -> 페이지 응답 (pageSize + 1개 조회 결과 기준)
+    private ChatListPageResponse toPage(List<ChatListResponse> chatList, int pageSize) {
+        boolean hasNext = chatList.size() > pageSize;
+        List<ChatListResponse> items = hasNext ? chatList.subList(0, pageSize) : chatList;
+
+        String next = null;
+        if (hasNext) {
+            ChatListResponse last = items.get(items.size() - 1);
+            next = ChatListCursor.encode(last.getCreatedAt(), last.getChatRoomId());
+        }
+
+        return ChatListPageResponse.builder()
+                .items(List.copyOf(items))
+                .next(next)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    // 페이지 크기 (미지정 시 기본값, 최대값 제한)
+    private int resolvePageSize(Integer size) {
+        if (size == null) {
+            return defaultPageSize;
+        }
+
+        if (size < 1) {
+            throw new BadRequestException("페이지 크기는 1 이상이어야 합니다.");
+        }
+
+        return Math.min(size, maxPageSize);
+    }
+
+    private ChatTags toChatTag(String tag) {
+        return (tag != null && !tag.isBlank())
+                ? ChatTags.valueOf(tag.toUpperCase())
+                : null;
+    }
+
     // 필터 검증
     private void validateFilters(String dateFilter, String tag) {
         if (dateFilter != null && !isValidEnum(DateFilter.class, dateFilter.toUpperCase())) {
@@ -213,8 +331,9 @@ public class ChatService {
             chatRoom.changeAnonymous(request.getIsAnonymous());
         }
 
-        if (request.getIsPublic() != null) {
+        if (request.getIsPublic() != null && request.getIsPublic() != chatRoom.isPublic()) {
             chatRoom.setPublic(request.getIsPublic());
+            publishVisibilityChanged(chatRoom, chatRoom.isPublic() && !chatRoom.isDeleted());
         }
     }
 
@@ -223,39 +342,83 @@ public class ChatService {
     public void deleteChat(Long chatRoomId) {
         Users user = securityUtils.getCurrentUser();
 
+        // 관리자 or 작성자
+        chatRoomAccessCache.checkAccess(user.getId(), chatRoomId);
+
         ChatRoom chatRoom = chatRoomRepository.findByIdAndIsDeletedFalse(chatRoomId)
                 .orElseThrow(() -> new ResourceNotFoundException("이미 삭제된 채팅방 입니다."));
-        // 관리자 or 작성자
-        boolean isAuthor =
-                chatRoom.getAuthor().getId().equals(user.getId());
+        boolean wasPublic = chatRoom.isPublic();
+        chatRoom.delete();
+        // 공개 -> 비공개로 바뀐 경우만 (비공개 방 삭제는 공개 색인/목록과 무관, 같은 제목의 공개 방 자동완성 가중치를 빼지 않도록)
+        if (wasPublic) {
+            publishVisibilityChanged(chatRoom, false);
+        }
+        eventPublisher.publishEvent(new ChatRoomDeletedEvent(chatRoom.getId()));
+    }
 
-        boolean isAdmin =
-                user.getRole() == Role.ADMIN;
+    // 공개 여부 변경 이벤트 (리액션 버전을 올려 이전 리액션 이벤트보다 뒤에 반영되도록)
+    private void publishVisibilityChanged(ChatRoom chatRoom, boolean visible) {
+        chatRoomRepository.increaseReactionVersion(chatRoom.getId());
+        ReactionCount reactionCount = chatRoomRepository.findReactionCountById(chatRoom.getId())
+                .orElseThrow(() -> new ResourceNotFoundException("해당 채팅방을 찾을 수 없습니다."));
 
-        if (!isAuthor && !isAdmin) {
-            throw new NotAcceptableUserException("해당 채팅방에 대한 권한이 없습니다.");
-        }
-        chatRoom.delete();
+        eventPublisher.publishEvent(new ChatRoomVisibilityChangedEvent(
+                chatRoom.getId(), chatRoom.getTitle(), visible,
+                reactionCount.getLikeCnt(), reactionCount.getReactionVersion()));
     }
 
+    // 공개 채팅방 제목 검색 (메모리 색인에서 관련도 순으로 찾고, 해당 페이지만 DB 조회)
     @Transactional(readOnly = true)
-    public List<PublicChatListResponse> searchPublicChats(String query) {
+    public List<PublicChatListResponse> searchPublicChats(String query, Integer page, Integer size) {
         if (query == null || query.trim().isEmpty()) {
             throw new BadRequestException("검색어(query)는 필수입니다.");
         }
 
-        List<ChatRoom> chatRooms = chatRoomRepository.searchPublicChatsByTitle(query.trim());
+        int pageNumber = (page == null) ? 0 : page;
+        if (pageNumber < 0) {
+            throw new BadRequestException("페이지 번호는 0 이상이어야 합니다.");
+        }
+        int pageSize = resolvePageSize(size);
+
+        // 요청한 페이지 끝까지만 순위를 매김 (전체 결과를 정렬하지 않음)
+        long offset = (long) pageNumber * pageSize;
+        int rankLimit = (int) Math.min(offset + pageSize, Integer.MAX_VALUE);
+        List<Long> rankedIds = chatTitleSearchIndex.search(query.trim(), rankLimit);
+        // 다음 페이지 조회는 같은 검색을 다시 세지 않도록 첫 페이지만 반영
+        if (pageNumber == 0 && !rankedIds.isEmpty()) {
+            chatAutocompleteIndex.recordQuery(query.trim());
+        }
+
+        if (offset >= rankedIds.size()) {
+            return List.of();
+        }
+        List<Long> pageIds = rankedIds.subList((int) offset, (int) Math.min(offset + pageSize, rankedIds.size()));
+
+        Map<Long, PublicChatListResponse> chatById = chatRoomRepository.findPublicChatsByIds(pageIds).stream()
+                .collect(Collectors.toMap(PublicChatListResponse::getChatRoomId, Function.identity()));
 
-        return chatRooms.stream()
-                .map(chatRoom -> PublicChatListResponse.builder()
-                        .title(chatRoom.getTitle())
-                        .tag(chatRoom.getTag().name())
-                        .createdAt(chatRoom.getCreatedAt())
-                        .build())
+        return pageIds.stream()
+                .map(chatById::get)
+                .filter(Objects::nonNull)
                 .toList();
     }
 
-    @Transactional
+    // 검색어 자동완성 (공개 채팅방 제목 + 인기 검색어), 메모리 색인만 보므로 트랜잭션 없이 실행
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<String> autocomplete(String prefix, Integer limit) {
+        if (prefix == null || prefix.trim().isEmpty()) {
+            return List.of();
+        }
+
+        int resultLimit = (limit == null) ? chatAutocompleteIndex.getMaxResults() : limit;
+        if (resultLimit < 1) {
+            throw new BadRequestException("조회 개수는 1 이상이어야 합니다.");
+        }
+
+        return chatAutocompleteIndex.complete(prefix, Math.min(resultLimit, chatAutocompleteIndex.getMaxResults()));
+    }
+
+    @Transactional(isolation = Isolation.READ_COMMITTED)
     public ChatReactionResponse reaction(ChatReactionRequest request) {
         String email = SecurityContextHolder.getContext()
                 .getAuthentication()
@@ -267,67 +430,57 @@ public class ChatService {
         ChatRoom chatRoom = chatRoomRepository.findByIdAndIsDeletedFalseAndIsPublicTrue(request.getChatRoomId())
                 .orElseThrow(() -> new ResourceNotFoundException("해당 채팅방을 찾을 수 없습니다."));
 
-        ChatRoomReaction existingReaction =
-                chatRoomReactionRepository.findByUserAndChatRoom(user, chatRoom);
-
-        //유저가 리액션을 누르지 않은 경우
-        if(existingReaction == null){
-            ChatRoomReaction savedReaction = ChatRoomReaction.builder()
-                    .chatRoom(chatRoom)
-                    .user(user)
-                    .reactionType(request.getReactionType())
-                    .build();
-
-            chatRoomReactionRepository.save(savedReaction);
-            user.addReaction(savedReaction);
-            chatRoom.addReaction(savedReaction);
+        ReactionType reactionType = request.getReactionType();
+        if (reactionType == null) {
+            throw new BadRequestException("리액션 타입을 입력하세요.");
         }
 
-        //유저가 이미 리액션을 누른 경우
-        // 기존 리액션이 있는 경우
-        else if (existingReaction.getReactionType() == request.getReactionType()) {
+        ReactionTransition transition = chatRoomReactionRepository.toggle(
+                snowflakeIdGenerator.nextId(), user.getId(), chatRoom.getId(), reactionType.name());
+
+        switch (transition) {
+            // 유저가 리액션을 누르지 않은 경우
+            case ADDED -> adjustReactionCounts(chatRoom.getId(), reactionType, null);
             // 같은 리액션 -> 해제
-            chatRoomReactionRepository.delete(existingReaction);
-            user.removeReaction(existingReaction);
-            chatRoom.removeReaction(existingReaction);
-        } else {
+            case REMOVED -> adjustReactionCounts(chatRoom.getId(), null, reactionType);
             // 다른 리액션 -> 수정
-            existingReaction.changeReactionType(request.getReactionType());
+            case CHANGED -> adjustReactionCounts(chatRoom.getId(), reactionType, opposite(reactionType));
         }
 
-        return countingReactions(chatRoom);
-    }
-
-    private ChatReactionResponse countingReactions(ChatRoom chatRoom) {
-
-        Integer likeCnt = (int) chatRoom.getReactions().stream()
-                .filter(r -> r.getReactionType() == ReactionType.LIKE)
-                .count();
+        ReactionCount reactionCount = chatRoomRepository.findReactionCountById(chatRoom.getId())
+                .orElseThrow(() -> new ResourceNotFoundException("해당 채팅방을 찾을 수 없습니다."));
 
-        Integer dislikeCnt = (int) chatRoom.getReactions().stream()
-                .filter(r -> r.getReactionType() == ReactionType.DISLIKE)
-                .count();
+        eventPublisher.publishEvent(new ChatReactionChangedEvent(
+                chatRoom.getId(), reactionCount.getLikeCnt(), reactionCount.getDislikeCnt(),
+                reactionCount.isVisible(), reactionCount.getReactionVersion()));
 
         return ChatReactionResponse.builder()
                 .chatRoomId(chatRoom.getId())
-                .likeCnt(likeCnt)
-                .dislikeCnt(dislikeCnt)
+                .likeCnt(reactionCount.getLikeCnt())
+                .dislikeCnt(reactionCount.getDislikeCnt())
                 .build();
     }
 
+    private ReactionType opposite(ReactionType reactionType) {
+        return reactionType == ReactionType.LIKE ? ReactionType.DISLIKE : ReactionType.LIKE;
+    }
+
+    // 추가/제거된 리액션만큼 카운터를 단일 UPDATE로 증감
+    private void adjustReactionCounts(Long chatRoomId, ReactionType added, ReactionType removed) {
+        int likeDelta = (added == ReactionType.LIKE ? 1 : 0) - (removed == ReactionType.LIKE ? 1 : 0);
+        int dislikeDelta = (added == ReactionType.DISLIKE ? 1 : 0) - (removed == ReactionType.DISLIKE ? 1 : 0);
+
+        chatRoomRepository.adjustReactionCounts(chatRoomId, likeDelta, dislikeDelta);
+    }
+
     public MyChatDetailResponse getMyChatRoom(Long chatRoomId) {
         Users user = securityUtils.getCurrentUser();
 
-        ChatRoom chatRoom = chatRoomRepository.findByIdAndIsDeletedFalse(chatRoomId)
-                .orElseThrow(() -> new ResourceNotFoundException("해당 채팅방을 찾을 수 없습니다."));
-
         // 작성자 or 관리자
-        boolean isAuthor = chatRoom.getAuthor().getId().equals(user.getId());
-        boolean isAdmin = user.getRole() == Role.ADMIN;
+        chatRoomAccessCache.checkAccess(user.getId(), chatRoomId);
 
-        if (!isAuthor && !isAdmin) {
-            throw new NotAcceptableUserException("해당 채팅방에 대한 권한이 없습니다.");
-        }
+        ChatRoom chatRoom = chatRoomRepository.findByIdAndIsDeletedFalse(chatRoomId)
+                .orElseThrow(() -> new ResourceNotFoundException("해당 채팅방을 찾을 수 없습니다."));
 
         return MyChatDetailResponse.from(chatRoom);
     }
@@ -348,43 +501,27 @@ public class ChatService {
             throw new NotAcceptableUserException("공개된 채팅방이 아닙니다.");
         }
 
-        List<ChatMessage> messages =
-                chatMessageRepository.findByChatRoomAndIsDeletedFalseOrderByCreatedAtAsc(chatRoom);
-
-        ReactionCount reactionCount = countReactions(chatRoom);
-
-        String myReaction = user.getReactions().stream()
-                .filter(r -> r.getChatRoom().getId().equals(chatRoom.getId()))
-                .map(r -> r.getReactionType().name())
-                .findFirst()
+        // 최근 메시지 버퍼에 방 전체가 있으면 메시지/발신자 조회 생략
+        List<ChatMessageDto> messages = recentMessageBuffer.getAll(chatRoom.getId())
+                .orElseGet(() -> {
+                    List<ChatMessageDto> loaded = ChatMessageDto.from(
+                            chatMessageRepository.findByChatRoomAndIsDeletedFalseOrderByCreatedAtAsc(chatRoom));
+                    recentMessageBuffer.seed(chatRoom.getId(), loaded);
+                    return loaded;
+                });
+
+        String myReaction = chatRoomReactionRepository.findReactionType(user.getId(), chatRoom.getId())
+                .map(ReactionType::name)
                 .orElse(null);
 
-        return PublicChatDetailResponse.from(
+        return PublicChatDetailResponse.fromItems(
                 chatRoom,
-                messages,
-                reactionCount.getLikeCnt(),
-                reactionCount.getDislikeCnt(),
+                ChatMessageDto.anonymize(messages, chatRoom.isAnonymous(), chatRoom.getAuthor().getId()),
+                chatRoom.getLikeCnt(),
+                chatRoom.getDislikeCnt(),
                 myReaction
         );
     }
 
 
-    private ReactionCount countReactions(ChatRoom chatRoom) {
-        int likeCnt = 0;
-        int dislikeCnt = 0;
-
-        for (ChatRoomReaction reaction : chatRoom.getReactions()) {
-            if (reaction.getReactionType() == ReactionType.LIKE) {
-                likeCnt++;
-            } else if (reaction.getReactionType() == ReactionType.DISLIKE) {
-                dislikeCnt++;
-            }
-        }
-
-        return ReactionCount.builder()
-                .likeCnt(likeCnt)
-                .dislikeCnt(dislikeCnt)
-                .build();
-    }
-
 }
\ No newline at end of file
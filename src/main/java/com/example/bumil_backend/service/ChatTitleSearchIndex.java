@@ -0,0 +1,219 @@
+package com.example.bumil_backend.service;
+
+import com.example.bumil_backend.dto.chat.response.PublicChatListResponse;
+import com.example.bumil_backend.event.ChatRoomVisibilityChangedEvent;
+import com.example.bumil_backend.repository.ChatRoomRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 공개 채팅방 제목 역색인 (문자 bigram, 한글 부분 문자열 검색)
+// 재구성은 새 색인을 따로 만든 뒤 한 번에 교체 (검색은 비어 있는 중간 상태를 보지 않음)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatTitleSearchIndex {
+
+    private static final int LOCK_STRIPES = 64;
+    private static final int INITIAL_HEAP_CAPACITY = 256;
+
+    // 정확히 일치 > 앞부분 일치 > 짧은 제목 > 최신 순
+    private static final Comparator<Match> RANKING = Comparator.comparingInt(Match::position)
+            .thenComparingInt(Match::titleLength)
+            .thenComparing(Match::chatRoomId, Comparator.reverseOrder());
+
+    private final ChatRoomRepository chatRoomRepository;
+
+    private volatile Index index = new Index();
+
+    // 개별 갱신은 read lock (동시 진행), 재구성은 write lock (교체 중 갱신이 이전 색인에 쓰이지 않도록)
+    private final ReentrantReadWriteLock rebuildLock = new ReentrantReadWriteLock();
+    // 같은 채팅방의 추가/제거를 직렬화 (제목과 posting이 어긋나지 않도록)
+    private final ReentrantLock[] roomLocks = createRoomLocks();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        rebuildLock.writeLock().lock();
+        try {
+            List<PublicChatListResponse> publicChats = chatRoomRepository.findAllPublicChatTitles();
+
+            Index rebuilt = new Index();
+            publicChats.forEach(chat -> add(rebuilt, chat.getChatRoomId(), chat.getTitle()));
+            index = rebuilt;
+
+            log.info("채팅방 제목 색인 완료 - {}개 채팅방", publicChats.size());
+        } finally {
+            rebuildLock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onVisibilityChanged(ChatRoomVisibilityChangedEvent event) {
+        Long chatRoomId = event.getChatRoomId();
+        ReentrantLock roomLock = roomLocks[Math.floorMod(chatRoomId.hashCode(), LOCK_STRIPES)];
+
+        rebuildLock.readLock().lock();
+        roomLock.lock();
+        try {
+            if (event.isVisible()) {
+                add(index, chatRoomId, event.getTitle());
+            } else {
+                remove(index, chatRoomId);
+            }
+        } finally {
+            roomLock.unlock();
+            rebuildLock.readLock().unlock();
+        }
+    }
+
+    // 제목에 keyword를 포함하는 채팅방 id 중 관련도 상위 limit개 (관련도 순)
+    // 후보 전체를 정렬하지 않고 크기 limit의 힙으로 선택 (O(m log limit))
+    public List<Long> search(String keyword, int limit) {
+        String query = normalize(keyword);
+        if (query.isEmpty() || limit < 1) {
+            return List.of();
+        }
+
+        Index current = index;
+
+        // 가장 작은 posting부터 교집합
+        List<Set<Long>> candidatesByToken = new ArrayList<>();
+        for (String token : queryTokens(query)) {
+            Set<Long> ids = current.postings.get(token);
+            if (ids == null) {
+                return List.of();
+            }
+            candidatesByToken.add(ids);
+        }
+        candidatesByToken.sort(Comparator.comparingInt(Set::size));
+
+        // 힙의 맨 앞은 지금까지 고른 것 중 관련도가 가장 낮은 항목
+        PriorityQueue<Match> top = new PriorityQueue<>(Math.min(limit, INITIAL_HEAP_CAPACITY), RANKING.reversed());
+        for (Long id : candidatesByToken.get(0)) {
+            if (!containsAll(candidatesByToken, id)) {
+                continue;
+            }
+
+            // bigram이 모두 있어도 연속 부분 문자열인지 최종 확인
+            String title = current.titles.get(id);
+            int position = (title == null) ? -1 : title.indexOf(query);
+            if (position < 0) {
+                continue;
+            }
+
+            Match match = new Match(id, position, title.length());
+            if (top.size() < limit) {
+                top.add(match);
+            } else if (RANKING.compare(match, top.peek()) < 0) {
+                top.poll();
+                top.add(match);
+            }
+        }
+
+        List<Match> matches = new ArrayList<>(top);
+        matches.sort(RANKING);
+        return matches.stream()
+                .map(Match::chatRoomId)
+                .toList();
+    }
+
+    // 같은 token의 마지막 id를 지우며 posting을 제거하는 remove와 겹치지 않도록 compute 안에서 추가
+    private void add(Index target, Long chatRoomId, String title) {
+        remove(target, chatRoomId);
+
+        String normalized = normalize(title);
+        target.titles.put(chatRoomId, normalized);
+        for (String token : indexTokens(normalized)) {
+            target.postings.compute(token, (key, ids) -> {
+                Set<Long> updated = (ids != null) ? ids : ConcurrentHashMap.newKeySet();
+                updated.add(chatRoomId);
+                return updated;
+            });
+        }
+    }
+
+    private void remove(Index target, Long chatRoomId) {
+        String previous = target.titles.remove(chatRoomId);
+        if (previous == null) {
+            return;
+        }
+
+        for (String token : indexTokens(previous)) {
+            target.postings.computeIfPresent(token, (key, ids) -> {
+                ids.remove(chatRoomId);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    private boolean containsAll(List<Set<Long>> candidatesByToken, Long id) {
+        for (int i = 1; i < candidatesByToken.size(); i++) {
+            if (!candidatesByToken.get(i).contains(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 색인: 1글자(1글자 검색용) + 2글자 토큰
+    private Set<String> indexTokens(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (int i = 0; i < text.length(); i++) {
+            tokens.add(text.substring(i, i + 1));
+            if (i + 1 < text.length()) {
+                tokens.add(text.substring(i, i + 2));
+            }
+        }
+        return tokens;
+    }
+
+    // 검색: 1글자면 그대로, 아니면 bigram
+    private Set<String> queryTokens(String query) {
+        if (query.length() == 1) {
+            return Set.of(query);
+        }
+
+        Set<String> tokens = new LinkedHashSet<>();
+        for (int i = 0; i + 1 < query.length(); i++) {
+            tokens.add(query.substring(i, i + 2));
+        }
+        return tokens;
+    }
+
+    private String normalize(String text) {
+        return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static ReentrantLock[] createRoomLocks() {
+        ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        return locks;
+    }
+
+    private static final class Index {
+        // token -> chatRoomId 목록
+        private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+        // chatRoomId -> 정규화된 제목
+        private final Map<Long, String> titles = new ConcurrentHashMap<>();
+    }
+
+    private record Match(Long chatRoomId, int position, int titleLength) {
+    }
+}
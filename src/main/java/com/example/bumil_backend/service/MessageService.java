@@ -1,28 +1,37 @@
 package com.example.bumil_backend.service;
 
 import com.example.bumil_backend.common.exception.*;
+import com.example.bumil_backend.common.id.SnowflakeIdGenerator;
 
 import com.example.bumil_backend.dto.message.ChatMessageDto;
-import com.example.bumil_backend.dto.message.MessageRequest;
+import com.example.bumil_backend.dto.message.ChatMessagePageResponse;
+import com.example.bumil_backend.dto.message.UnreadCountResponse;
 import com.example.bumil_backend.entity.ChatMessage;
 import com.example.bumil_backend.entity.ChatRoom;
 import com.example.bumil_backend.entity.Users;
-import com.example.bumil_backend.enums.Role;
+import com.example.bumil_backend.event.ChatMessageDeletedEvent;
 import com.example.bumil_backend.repository.ChatMessageRepository;
+import com.example.bumil_backend.repository.ChatReadCursorRepository;
 import com.example.bumil_backend.repository.ChatRoomRepository;
 import com.example.bumil_backend.repository.UserRepository;
 import com.example.bumil_backend.security.SecurityUtils;
+import com.example.bumil_backend.security.StompPrincipal;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.*;
 import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.security.Principal;
+import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -30,8 +39,26 @@ public class MessageService {
     private final ChatMessageRepository chatMessageRepository;
     private final UserRepository userRepository;
     private final ChatRoomRepository chatRoomRepository;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final ChatBroadcaster chatBroadcaster;
     private final SecurityUtils securityUtils;
+    private final ChatRoomAccessCache chatRoomAccessCache;
+    private final ChatMessageWriter chatMessageWriter;
+    private final SnowflakeIdGenerator snowflakeIdGenerator;
+    private final ChatMessageSequencer chatMessageSequencer;
+    private final RecentMessageBuffer recentMessageBuffer;
+    private final ReadCursorWriter readCursorWriter;
+    private final ReadReceiptBroadcaster readReceiptBroadcaster;
+    private final ChatReadCursorRepository chatReadCursorRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${chat.message.resync.max-size:500}")
+    private int maxResyncSize;
+
+    @Value("${chat.message.history.default-page-size:50}")
+    private int defaultHistoryPageSize;
+
+    @Value("${chat.message.history.max-page-size:200}")
+    private int maxHistoryPageSize;
 
     public void checkRoomAccess(Long roomId, Principal principal) {
         ChatRoom room = chatRoomRepository.findByIdAndIsDeletedFalse(roomId)
@@ -56,45 +83,75 @@ public class MessageService {
         }
 
         chatMessage.delete();
+        eventPublisher.publishEvent(
+                new ChatMessageDeletedEvent(chatMessage.getChatRoom().getId(), chatMessage.getId()));
     }
 
-    public void sendMessage(MessageRequest request, SimpMessageHeaderAccessor accessor) {
-        Principal principal = resolvePrincipal(accessor);
-        String username = principal.getName();
-        Users user = userRepository.findByEmailAndIsDeletedFalse(username)
-                .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다."));
+    // 검증 -> 시각 지정 -> 저장 대기열 등록 -> 즉시 전송 (저장은 ChatMessageWriter가 일괄 처리)
+    public void sendMessage(Long roomId, String message, SimpMessageHeaderAccessor accessor) {
+        if (roomId == null) {
+            throw new BadRequestException("SEND 메시지에 roomId가 필요합니다.");
+        }
+        if (message == null || message.isBlank()) {
+            throw new BadRequestException("메시지 내용이 필요합니다.");
+        }
+        // 지연 저장은 전송 후에 실패하므로 저장 전에 컬럼 길이 확인 (이모지 등은 한 글자로 계산)
+        if (message.codePointCount(0, message.length()) > ChatMessage.MAX_MESSAGE_LENGTH) {
+            throw new BadRequestException("메시지는 " + ChatMessage.MAX_MESSAGE_LENGTH + "자 이하로 입력해주세요.");
+        }
+
+        StompPrincipal sender = resolvePrincipal(accessor);
 
-        Long roomId = request.getRoomId();
+        // 권한은 캐시로 확인 (탈퇴한 사용자도 여기서 걸러짐)
+        chatRoomAccessCache.checkAccess(sender.id(), roomId);
 
-        // 채팅방 조회
-        ChatRoom chatRoom = chatRoomRepository.findByIdAndIsDeletedFalse(roomId)
-                .orElseThrow(() -> new ResourceNotFoundException("해당 채팅방을 찾을 수 없습니다."));
+        chatMessageSequencer.withNextSeq(roomId, seq -> {
+            LocalDateTime createdAt = LocalDateTime.now();
+            Long messageId;
 
-        ChatMessage chatMessage = ChatMessage.builder()
-                .message(request.getMessage())
-                .sender(user)
-                .chatRoom(chatRoom)
-                .build();
-        chatMessageRepository.save(chatMessage);
+            if (chatMessageWriter.isWriteBehind()) {
+                messageId = snowflakeIdGenerator.nextId();
+                chatMessageWriter.enqueue(
+                        new ChatMessageWriter.PendingMessage(messageId, seq, roomId, sender.id(), message, createdAt));
+            } else {
+                // 동기 저장 모드 (chat.message.write-behind.enabled=false), ID는 @SnowflakeId로 발급
+                ChatMessage saved = chatMessageRepository.save(ChatMessage.builder()
+                        .seq(seq)
+                        .message(message)
+                        .sender(userRepository.getReferenceById(sender.id()))
+                        .chatRoom(chatRoomRepository.getReferenceById(roomId))
+                        .createdAt(createdAt)
+                        .build());
+                messageId = saved.getId();
+            }
 
-        ChatMessageDto dto = ChatMessageDto.from(chatMessage);
+            return ChatMessageDto.builder()
+                    .messageId(messageId)
+                    .seq(seq)
+                    .message(message)
+                    .isDeleted(false)
+                    .sender(sender.id())
+                    .senderName(sender.name())
+                    .createdAt(createdAt)
+                    .build();
+        }, dto -> {
+            recentMessageBuffer.append(roomId, dto);
+            // 내가 보낸 메시지는 읽은 것으로 처리
+            readCursorWriter.record(sender.id(), roomId, dto.getSeq());
 
-        // 메시지 전송
-        messagingTemplate.convertAndSend(
-                "/sub/chat/room/" + roomId,
-                dto
-        );
+            // 메시지 전송 (JSON 직렬화 1회 후 모든 구독자에게)
+            chatBroadcaster.broadcast(roomId, dto);
+        });
     }
 
-    private Principal resolvePrincipal(SimpMessageHeaderAccessor accessor) {
+    private StompPrincipal resolvePrincipal(SimpMessageHeaderAccessor accessor) {
 
-        Principal principal = accessor.getUser();
-        if (principal != null) {
+        if (accessor.getUser() instanceof StompPrincipal principal) {
             return principal;
         }
 
-        Object saved = accessor.getSessionAttributes().get("userPrincipal");
-        if (saved instanceof Principal p) {
+        Object saved = accessor.getSessionAttributes().get(StompPrincipal.SESSION_KEY);
+        if (saved instanceof StompPrincipal p) {
             return p;
         }
 
@@ -105,15 +162,14 @@ public class MessageService {
     public List<ChatMessageDto> getMessages(Long chatRoomId, Pageable pageable) {
         Users user = securityUtils.getCurrentUser();
 
-        ChatRoom chatRoom = chatRoomRepository.findByIdAndIsDeletedFalse(chatRoomId)
-                .orElseThrow(() -> new ResourceNotFoundException("해당 채팅방을 찾을 수 없습니다."));
-
         // 작성자 or 관리자
-        boolean isAuthor = chatRoom.getAuthor().getId().equals(user.getId());
-        boolean isAdmin = user.getRole() == Role.ADMIN;
+        chatRoomAccessCache.checkAccess(user.getId(), chatRoomId);
+        ChatRoom chatRoom = chatRoomRepository.getReferenceById(chatRoomId);
 
-        if (!isAuthor && !isAdmin) {
-            throw new NotAcceptableUserException("해당 채팅방에 대한 권한이 없습니다.");
+        // 최근 메시지 버퍼에 방 전체가 있으면 DB 조회 없이 응답
+        Optional<List<ChatMessageDto>> recent = recentMessageBuffer.getAll(chatRoomId);
+        if (recent.isPresent()) {
+            return (pageable == null) ? recent.get() : slice(recent.get(), pageable);
         }
 
         List<ChatMessage> messages;
@@ -122,6 +178,10 @@ public class MessageService {
             // 오래된 -> 최신으로 정렬
             messages = chatMessageRepository
                     .findByChatRoomAndIsDeletedFalseOrderByCreatedAtAsc(chatRoom);
+
+            List<ChatMessageDto> result = ChatMessageDto.from(messages);
+            recentMessageBuffer.seed(chatRoomId, result);
+            return result;
         } else {
             Pageable sortedPageable = PageRequest.of(
                     pageable.getPageNumber(),
@@ -137,4 +197,144 @@ public class MessageService {
         return ChatMessageDto.from(messages);
     }
 
+    // 순번(seq) 키셋 기반 기록 조회
+    // before: 해당 순번 이전 (미지정 시 최신 메시지부터 위로 스크롤), after: 해당 순번 이후
+    @Transactional(readOnly = true)
+    public ChatMessagePageResponse getMessageHistory(Long chatRoomId, Long before, Long after, Integer size) {
+        Users user = securityUtils.getCurrentUser();
+        chatRoomAccessCache.checkAccess(user.getId(), chatRoomId);
+
+        if (before != null && after != null) {
+            throw new BadRequestException("before와 after는 함께 지정할 수 없습니다.");
+        }
+
+        Pageable pageable = PageRequest.of(0, resolveHistoryPageSize(size));
+
+        if (after != null) {
+            Slice<ChatMessage> slice = chatMessageRepository.findHistoryAfter(chatRoomId, after, pageable);
+            List<ChatMessageDto> items = ChatMessageDto.from(slice.getContent());
+
+            return toHistoryPage(items, slice.hasNext(), items.isEmpty() ? null : items.get(items.size() - 1).getSeq());
+        }
+
+        long cursor = (before == null) ? Long.MAX_VALUE : before;
+        Slice<ChatMessage> slice = chatMessageRepository.findHistoryBefore(chatRoomId, cursor, pageable);
+
+        // 최신순으로 조회했으므로 오래된 -> 최신으로 뒤집어서 응답
+        List<ChatMessageDto> items = ChatMessageDto.from(slice.getContent().reversed());
+
+        return toHistoryPage(items, slice.hasNext(), items.isEmpty() ? null : items.get(0).getSeq());
+    }
+
+    private ChatMessagePageResponse toHistoryPage(List<ChatMessageDto> items, boolean hasNext, Long boundarySeq) {
+        return ChatMessagePageResponse.builder()
+                .items(items)
+                .next(hasNext ? boundarySeq : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    // 페이지 크기 (미지정 시 기본값, 최대값 제한)
+    private int resolveHistoryPageSize(Integer size) {
+        if (size == null) {
+            return defaultHistoryPageSize;
+        }
+
+        if (size < 1) {
+            throw new BadRequestException("페이지 크기는 1 이상이어야 합니다.");
+        }
+
+        return Math.min(size, maxHistoryPageSize);
+    }
+
+    // since 이후 메시지만 조회 (재연결 시 REST/STOMP 공통, sender는 fetch join으로 함께 조회)
+    private List<ChatMessageDto> loadMessagesSince(Long chatRoomId, Long since, Long userId) {
+        if (since == null || since < 0) {
+            throw new BadRequestException("since는 0 이상이어야 합니다.");
+        }
+
+        chatRoomAccessCache.checkAccess(userId, chatRoomId);
+
+        // 최근 메시지 버퍼에 빈틈 없이 있으면 DB 조회 없이 응답
+        Optional<List<ChatMessageDto>> recent = recentMessageBuffer.getSince(chatRoomId, since, maxResyncSize);
+        if (recent.isPresent()) {
+            return recent.get();
+        }
+
+        // 최대 max-size건, 더 남았으면 마지막 seq로 다시 요청
+        return chatMessageRepository.findSince(chatRoomId, since, Limit.of(maxResyncSize))
+                .stream()
+                .map(ChatMessageDto::fromWithTombstone)
+                .toList();
+    }
+
+    private List<ChatMessageDto> slice(List<ChatMessageDto> messages, Pageable pageable) {
+        long from = pageable.getOffset();
+        if (from >= messages.size()) {
+            return List.of();
+        }
+        int to = (int) Math.min(messages.size(), from + pageable.getPageSize());
+        return messages.subList((int) from, to);
+    }
+
+    public List<ChatMessageDto> getMessagesSince(Long chatRoomId, Long since) {
+        return loadMessagesSince(chatRoomId, since, securityUtils.getCurrentUserId());
+    }
+
+    public List<ChatMessageDto> getMessagesSince(Long chatRoomId, Long since, SimpMessageHeaderAccessor accessor) {
+        return loadMessagesSince(chatRoomId, since, resolvePrincipal(accessor).id());
+    }
+
+    // 읽음 처리 (STOMP ack, 메모리에 기록 후 ReadCursorWriter가 모아서 저장)
+    // 읽음 위치가 앞으로 이동했을 때만 읽음 표시 대기열에 추가 (ReadReceiptBroadcaster가 방마다 주기당 한 번 전송)
+    public void markAsRead(Long roomId, Long seq, SimpMessageHeaderAccessor accessor) {
+        if (seq == null || seq < 0) {
+            throw new BadRequestException("seq는 0 이상이어야 합니다.");
+        }
+
+        StompPrincipal reader = resolvePrincipal(accessor);
+        chatRoomAccessCache.checkAccess(reader.id(), roomId);
+
+        // 아직 발급되지 않은 순번은 마지막 순번으로 제한
+        long lastSeq = chatMessageSequencer.lastSeqs(List.of(roomId)).get(roomId);
+        long lastReadSeq = Math.min(seq, lastSeq);
+
+        if (readCursorWriter.record(reader.id(), roomId, lastReadSeq)) {
+            readReceiptBroadcaster.record(roomId, reader.id(), lastReadSeq);
+        }
+    }
+
+    // 내 채팅방(작성한 방 + 읽은 적 있는 방)별 안 읽은 메시지 수
+    // 방의 마지막 순번 - 내 읽음 위치 (chat_messages COUNT 없이 순번 카운터로 계산, 순번 빈틈만큼 많게 나올 수 있음)
+    // 마지막 순번은 database 모드면 chat_room_seqs 공유 카운터 (relay 모드는 database 모드 필수), 읽음 위치는 DB 기준
+    // 이 노드에서 아직 저장하지 않은 ack만 덧붙이므로, 다른 노드에서 받은 ack는 chat.read.flush-interval-ms 안에 반영됨
+    @Transactional(readOnly = true)
+    public List<UnreadCountResponse> getUnreadCounts() {
+        Long userId = securityUtils.getCurrentUserId();
+
+        Map<Long, Long> lastReadSeqs = new HashMap<>();
+        chatRoomRepository.findIdsByAuthorId(userId)
+                .forEach(chatRoomId -> lastReadSeqs.put(chatRoomId, 0L));
+        chatReadCursorRepository.findReadCursors(userId)
+                .forEach(cursor -> lastReadSeqs.merge(cursor.getChatRoomId(), cursor.getLastReadSeq(), Math::max));
+
+        // 아직 저장되지 않은 ack 반영 (삭제된 방은 제외)
+        readCursorWriter.pendingOf(userId)
+                .forEach((chatRoomId, seq) -> lastReadSeqs.computeIfPresent(chatRoomId, (id, saved) -> Math.max(saved, seq)));
+
+        Map<Long, Long> lastSeqs = chatMessageSequencer.lastSeqs(lastReadSeqs.keySet());
+
+        return lastReadSeqs.entrySet().stream()
+                .sorted(Map.Entry.<Long, Long>comparingByKey().reversed())
+                .map(entry -> {
+                    long lastSeq = lastSeqs.getOrDefault(entry.getKey(), 0L);
+                    return UnreadCountResponse.builder()
+                            .chatRoomId(entry.getKey())
+                            .lastReadSeq(entry.getValue())
+                            .lastSeq(lastSeq)
+                            .unreadCount(Math.max(0, lastSeq - entry.getValue()))
+                            .build();
+                })
+                .toList();
+    }
 }
@@ -0,0 +1,30 @@
+package com.example.bumil_backend.service;
+
+import com.example.bumil_backend.repository.ChatRoomRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReactionCountRepairService {
+
+    private final ChatRoomRepository chatRoomRepository;
+    private final BestChatLeaderboard bestChatLeaderboard;
+
+    // 서버 기동 시 + 매일 새벽 chat_room_reactions 기준으로 카운터 보정 후 베스트 순위 재구성
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${chat.reaction.repair-cron:0 0 4 * * *}")
+    @Transactional
+    public void repairReactionCounts() {
+        int updated = chatRoomRepository.recalculateReactionCounts();
+        log.info("리액션 카운터 보정 완료 - {}개 채팅방", updated);
+
+        bestChatLeaderboard.rebuild();
+    }
+}
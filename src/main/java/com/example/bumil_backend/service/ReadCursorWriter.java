@@ -0,0 +1,180 @@
+package com.example.bumil_backend.service;
+
+import com.example.bumil_backend.common.id.SnowflakeIdGenerator;
+import com.example.bumil_backend.event.ChatRoomDeletedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 읽음 위치 지연 저장 (ack는 메모리에 모으고, 주기마다 (사용자, 채팅방)별 최대값만 다중 행 UPSERT)
+// 저장에 성공한 값만 대기 목록에서 빼므로, 일시적 오류로 실패한 읽음 위치는 다음 주기에 다시 저장
+@Slf4j
+@Component
+public class ReadCursorWriter {
+
+    private static final String UPSERT_PREFIX =
+            "INSERT INTO chat_read_cursors (id, user_id, chat_room_id, last_read_seq, updated_at) VALUES ";
+    private static final String ROW_VALUES = "(?, ?, ?, ?, ?)";
+    // 늦게 도착한 작은 값이 덮어쓰지 않도록 GREATEST
+    private static final String UPSERT_SUFFIX = """
+             ON DUPLICATE KEY UPDATE
+                last_read_seq = GREATEST(last_read_seq, VALUES(last_read_seq)),
+                updated_at = VALUES(updated_at)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SnowflakeIdGenerator snowflakeIdGenerator;
+    private final int batchSize;
+
+    // 아직 저장하지 않은 읽음 위치 (같은 키는 최대값 하나로 합쳐짐)
+    private final ConcurrentHashMap<CursorKey, Long> pending = new ConcurrentHashMap<>();
+    // 이 노드에서 저장을 마친 마지막 읽음 위치 (대기 목록이 비어도 이전 값으로 되돌아간 ack를 전진으로 보지 않도록, 채팅방 삭제 시 제거)
+    private final ConcurrentHashMap<CursorKey, Long> flushed = new ConcurrentHashMap<>();
+
+    public ReadCursorWriter(
+            JdbcTemplate jdbcTemplate,
+            SnowflakeIdGenerator snowflakeIdGenerator,
+            @Value("${chat.read.batch-size:500}") int batchSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.snowflakeIdGenerator = snowflakeIdGenerator;
+        this.batchSize = batchSize;
+    }
+
+    // 읽음 위치가 앞으로 이동했으면 true (저장 대기 중인 값, 없으면 저장을 마친 값 기준)
+    // 같은 키의 동시 ack 중 실제로 값을 올린 쪽만 true가 되도록 compute 안에서 판단
+    // flush는 저장한 값을 flushed에 먼저 남긴 뒤 대기 목록에서 빼므로 둘 중 하나에는 항상 보임
+    public boolean record(Long userId, Long chatRoomId, long lastReadSeq) {
+        boolean[] advanced = new boolean[1];
+        pending.compute(new CursorKey(userId, chatRoomId), (key, current) -> {
+            Long saved = current != null ? current : flushed.get(key);
+            if (saved != null && saved >= lastReadSeq) {
+                return current;
+            }
+            advanced[0] = true;
+            return lastReadSeq;
+        });
+        return advanced[0];
+    }
+
+    // 저장 대기 중인 사용자의 읽음 위치 (chatRoomId -> seq)
+    public Map<Long, Long> pendingOf(Long userId) {
+        Map<Long, Long> result = new HashMap<>();
+        pending.forEach((key, seq) -> {
+            if (key.userId().equals(userId)) {
+                result.put(key.chatRoomId(), seq);
+            }
+        });
+        return result;
+    }
+
+    // 대기 목록에서 빼지 않고 읽어 저장, 성공한 행만 제거 (저장 중 더 큰 값이 들어왔으면 다음 주기에 저장)
+    @Scheduled(fixedDelayString = "${chat.read.flush-interval-ms:1000}")
+    public void flush() {
+        List<PendingCursor> rows = new ArrayList<>(Math.min(pending.size(), batchSize));
+
+        for (Map.Entry<CursorKey, Long> entry : pending.entrySet()) {
+            rows.add(new PendingCursor(entry.getKey(), entry.getValue()));
+            if (rows.size() >= batchSize) {
+                write(rows);
+                rows.clear();
+            }
+        }
+
+        if (!rows.isEmpty()) {
+            write(rows);
+        }
+    }
+
+    @TransactionalEventListener
+    public void onChatRoomDeleted(ChatRoomDeletedEvent event) {
+        flushed.keySet().removeIf(key -> key.chatRoomId().equals(event.getChatRoomId()));
+    }
+
+    // 종료 시 남은 읽음 위치 저장
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private void write(List<PendingCursor> rows) {
+        try {
+            upsert(rows);
+            rows.forEach(this::markFlushed);
+            return;
+        } catch (DataAccessException e) {
+            if (isTransient(e)) {
+                // DB를 쓸 수 없음 -> 행 단위로 나눠도 같은 결과이므로 대기 목록에 두고 다음 주기에 재시도
+                log.warn("읽음 위치 일괄 저장 일시 오류, 다음 주기에 재시도합니다. size={}", rows.size(), e);
+                return;
+            }
+            log.warn("읽음 위치 일괄 저장 실패, 한 건씩 재시도합니다. size={}", rows.size(), e);
+        }
+
+        // 제약 조건 위반 등 특정 행 문제 -> 해당 행만 버림 (다음 ack에서 다시 기록됨)
+        for (PendingCursor row : rows) {
+            try {
+                upsert(List.of(row));
+                markFlushed(row);
+            } catch (DataAccessException ex) {
+                if (isTransient(ex)) {
+                    continue;
+                }
+                log.error("읽음 위치 저장 실패 userId={}, roomId={}, seq={}",
+                        row.key().userId(), row.key().chatRoomId(), row.lastReadSeq(), ex);
+                pending.remove(row.key(), row.lastReadSeq());
+            }
+        }
+    }
+
+    // 저장한 값을 먼저 남기고, 그 사이 더 큰 값이 들어오지 않았을 때만 대기 목록에서 제거
+    private void markFlushed(PendingCursor row) {
+        flushed.merge(row.key(), row.lastReadSeq(), Math::max);
+        pending.remove(row.key(), row.lastReadSeq());
+    }
+
+    private boolean isTransient(DataAccessException e) {
+        return e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof DataAccessResourceFailureException;
+    }
+
+    private void upsert(List<PendingCursor> rows) {
+        String sql = UPSERT_PREFIX + String.join(", ", Collections.nCopies(rows.size(), ROW_VALUES)) + UPSERT_SUFFIX;
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.update(sql, ps -> {
+            int index = 1;
+            for (PendingCursor row : rows) {
+                ps.setLong(index++, snowflakeIdGenerator.nextId());
+                ps.setLong(index++, row.key().userId());
+                ps.setLong(index++, row.key().chatRoomId());
+                ps.setLong(index++, row.lastReadSeq());
+                ps.setTimestamp(index++, now);
+            }
+        });
+    }
+
+    private record CursorKey(Long userId, Long chatRoomId) {
+    }
+
+    private record PendingCursor(CursorKey key, long lastReadSeq) {
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.bumil_backend.service;
+
+import com.example.bumil_backend.dto.message.ReadReceipt;
+import com.example.bumil_backend.dto.message.ReadReceiptResponse;
+import com.example.bumil_backend.event.ChatRoomDeletedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 읽음 표시 묶음 전송
+// ack마다 방 전체에 보내면 N명이 읽을 때 N x N 프레임이 되므로, 방마다 주기 동안 바뀐 읽음 위치를 모아 한 번만 전송
+@Component
+@RequiredArgsConstructor
+public class ReadReceiptBroadcaster {
+
+    private final ChatBroadcaster chatBroadcaster;
+
+    // 채팅방 -> (사용자 -> 읽음 위치), 같은 사용자는 최대값 하나로 합쳐짐
+    // 안쪽 맵은 compute 안에서만 수정 (flush가 꺼낸 뒤에 쓰여 유실되지 않도록)
+    private final ConcurrentHashMap<Long, Map<Long, Long>> pending = new ConcurrentHashMap<>();
+
+    public void record(Long chatRoomId, Long userId, long lastReadSeq) {
+        pending.compute(chatRoomId, (id, receipts) -> {
+            Map<Long, Long> updated = (receipts != null) ? receipts : new HashMap<>();
+            updated.merge(userId, lastReadSeq, Math::max);
+            return updated;
+        });
+    }
+
+    @TransactionalEventListener
+    public void onChatRoomDeleted(ChatRoomDeletedEvent event) {
+        pending.remove(event.getChatRoomId());
+    }
+
+    // 바뀐 방만 전송 (방마다 주기당 최대 1회)
+    @Scheduled(fixedDelayString = "${chat.read.receipt-interval-ms:1000}")
+    public void flush() {
+        for (Long chatRoomId : pending.keySet()) {
+            Map<Long, Long> receipts = pending.remove(chatRoomId);
+            if (receipts == null || receipts.isEmpty()) {
+                continue;
+            }
+
+            chatBroadcaster.send(
+                    chatBroadcaster.destination(chatRoomId) + "/read",
+                    ReadReceiptResponse.builder()
+                            .chatRoomId(chatRoomId)
+                            .receipts(receipts.entrySet().stream()
+                                    .sorted(Map.Entry.comparingByKey())
+                                    .map(entry -> new ReadReceipt(entry.getKey(), entry.getValue()))
+                                    .toList())
+                            .build()
+            );
+        }
+    }
+}
@@ -0,0 +1,436 @@
+package com.example.bumil_backend.service;
+
+import com.example.bumil_backend.dto.message.ChatMessageDto;
+import com.example.bumil_backend.event.ChatMessageDeletedEvent;
+import com.example.bumil_backend.event.ChatMessageWriteFailedEvent;
+import com.example.bumil_backend.event.ChatRoomDeletedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 활성 채팅방별 최근 메시지 링 버퍼 (전송 경로에서 채우고, 유휴 시간/전체 메모리 상한으로 제거)
+// off-heap 옵션: 방마다 direct buffer(slab) 하나를 링으로 쓰고 메시지는 직렬화한 바이트로 보관 (GC 대상 객체 수 감소)
+// 이 노드에서 전송한 메시지만 채워지므로 여러 노드(websocket.broker.mode=relay)에서는 사용하지 않음
+@Slf4j
+@Component
+public class RecentMessageBuffer {
+
+    // off-heap 모드에서 슬롯 하나의 힙 사용량 (payload는 slab에 있음)
+    private static final int OFF_HEAP_SLOT_BYTES = 40;
+
+    private final ChatMessageSequencer chatMessageSequencer;
+    private final boolean enabled;
+    private final int capacity;
+    private final long maxBytes;
+    private final long idleTtlMillis;
+    private final boolean offHeap;
+    private final int slabBytes;
+
+    private final ConcurrentHashMap<Long, RoomBuffer> rooms = new ConcurrentHashMap<>();
+    private final AtomicLong totalBytes = new AtomicLong();
+
+    public RecentMessageBuffer(
+            ChatMessageSequencer chatMessageSequencer,
+            @Value("${chat.message.recent.size:100}") int capacity,
+            @Value("${chat.message.recent.max-bytes:67108864}") long maxBytes,
+            @Value("${chat.message.recent.idle-ttl-seconds:600}") long idleTtlSeconds,
+            @Value("${chat.message.recent.off-heap:false}") boolean offHeap,
+            // 방 하나의 slab 크기 (off-heap)
+            @Value("${chat.message.recent.off-heap.room-bytes:131072}") int slabBytes,
+            @Value("${chat.message.recent.enabled:true}") boolean enabled,
+            @Value("${websocket.broker.mode:simple}") String brokerMode
+    ) {
+        this.chatMessageSequencer = chatMessageSequencer;
+        this.capacity = capacity;
+        this.maxBytes = maxBytes;
+        this.idleTtlMillis = idleTtlSeconds * 1000;
+        this.offHeap = offHeap;
+        this.slabBytes = slabBytes;
+
+        // 다른 노드에서 전송된 메시지는 이 버퍼에 들어오지 않아 오래된 목록을 응답하게 되므로 끔
+        boolean relay = "relay".equalsIgnoreCase(brokerMode);
+        if (enabled && relay) {
+            log.info("websocket.broker.mode=relay 에서는 최근 메시지 버퍼를 사용하지 않습니다.");
+        }
+        this.enabled = enabled && !relay;
+    }
+
+    // 전송 경로에서 순번 순서대로 호출됨 (ChatMessageSequencer의 방 잠금 안)
+    public void append(Long chatRoomId, ChatMessageDto message) {
+        if (!enabled) {
+            return;
+        }
+
+        while (true) {
+            RoomBuffer buffer = rooms.computeIfAbsent(chatRoomId, id -> new RoomBuffer());
+
+            buffer.lock.lock();
+            try {
+                if (buffer.removed) {
+                    continue;
+                }
+
+                // 방의 첫 메시지면 이전 기록이 없으므로 전체 보관 상태
+                if (buffer.slots.isEmpty() && message.getSeq() != null && message.getSeq() == 1L) {
+                    buffer.complete = true;
+                }
+                buffer.add(message);
+                buffer.touch();
+            } finally {
+                buffer.lock.unlock();
+            }
+            break;
+        }
+
+        enforceBudget(chatRoomId);
+    }
+
+    // 방의 (삭제되지 않은) 메시지 전체가 버퍼에 있을 때만 반환
+    public Optional<List<ChatMessageDto>> getAll(Long chatRoomId) {
+        RoomBuffer buffer = enabled ? rooms.get(chatRoomId) : null;
+        if (buffer == null) {
+            return Optional.empty();
+        }
+
+        buffer.lock.lock();
+        try {
+            if (buffer.removed || !buffer.complete) {
+                return Optional.empty();
+            }
+            buffer.touch();
+            return Optional.of(buffer.slots.stream().map(buffer::read).toList());
+        } finally {
+            buffer.lock.unlock();
+        }
+    }
+
+    // since 다음 순번부터 빈틈 없이 버퍼에 있을 때만 반환 (삭제 메시지 자리가 비면 DB에서 조회)
+    public Optional<List<ChatMessageDto>> getSince(Long chatRoomId, long since, int limit) {
+        RoomBuffer buffer = enabled ? rooms.get(chatRoomId) : null;
+        if (buffer == null) {
+            return Optional.empty();
+        }
+
+        buffer.lock.lock();
+        try {
+            if (buffer.removed || buffer.slots.isEmpty() || buffer.slots.peekFirst().seq() > since + 1) {
+                return Optional.empty();
+            }
+
+            List<ChatMessageDto> result = new ArrayList<>();
+            long expected = since + 1;
+            for (Slot slot : buffer.slots) {
+                if (slot.seq() <= since) {
+                    continue;
+                }
+                if (slot.seq() != expected) {
+                    return Optional.empty();
+                }
+                if (result.size() == limit) {
+                    break;
+                }
+                result.add(buffer.read(slot));
+                expected++;
+            }
+
+            buffer.touch();
+            return Optional.of(result);
+        } finally {
+            buffer.lock.unlock();
+        }
+    }
+
+    // DB에서 읽은 전체 메시지(순번 오름차순)로 버퍼 채우기
+    // 아직 DB에 반영되지 않은(지연 저장 중) 메시지가 있으면 채우지 않음
+    public void seed(Long chatRoomId, List<ChatMessageDto> messages) {
+        if (!enabled) {
+            return;
+        }
+
+        List<ChatMessageDto> allMessages = messages.stream()
+                .sorted(Comparator.comparing(ChatMessageDto::getSeq, Comparator.nullsFirst(Comparator.naturalOrder())))
+                .toList();
+        long dbLastSeq = allMessages.stream()
+                .map(ChatMessageDto::getSeq)
+                .filter(seq -> seq != null)
+                .mapToLong(Long::longValue)
+                .max()
+                .orElse(0L);
+
+        OptionalLong lastIssued = chatMessageSequencer.lastIssued(chatRoomId);
+        if (lastIssued.isPresent() && lastIssued.getAsLong() > dbLastSeq) {
+            return;
+        }
+
+        RoomBuffer buffer = rooms.computeIfAbsent(chatRoomId, id -> new RoomBuffer());
+        buffer.lock.lock();
+        try {
+            if (buffer.removed) {
+                return;
+            }
+
+            // 조회 이후 전송된 메시지는 버퍼에 이미 들어와 있으므로 그대로 이어 붙임 (slab을 다시 쓰므로 먼저 읽어 둠)
+            List<ChatMessageDto> newer = buffer.slots.stream()
+                    .filter(slot -> slot.seq() > dbLastSeq)
+                    .map(buffer::read)
+                    .toList();
+
+            buffer.clear();
+            int skip = Math.max(0, allMessages.size() + newer.size() - capacity);
+            buffer.complete = skip == 0;
+
+            allMessages.stream()
+                    .skip(skip)
+                    .forEach(buffer::add);
+            newer.forEach(buffer::add);
+            buffer.touch();
+        } finally {
+            buffer.lock.unlock();
+        }
+
+        enforceBudget(chatRoomId);
+    }
+
+    @TransactionalEventListener
+    public void onChatMessageDeleted(ChatMessageDeletedEvent event) {
+        evict(event.getChatRoomId());
+    }
+
+    @TransactionalEventListener
+    public void onChatRoomDeleted(ChatRoomDeletedEvent event) {
+        evict(event.getChatRoomId());
+    }
+
+    // 지연 저장 실패 -> DB에 없는 메시지를 계속 응답하지 않도록 방 버퍼 제거 (이후 조회는 DB 기준)
+    @EventListener
+    public void onChatMessageWriteFailed(ChatMessageWriteFailedEvent event) {
+        evict(event.getChatRoomId());
+    }
+
+    // 유휴 방 제거
+    @Scheduled(fixedDelayString = "${chat.message.recent.sweep-interval-ms:60000}")
+    public void evictIdle() {
+        long threshold = System.currentTimeMillis() - idleTtlMillis;
+        rooms.forEach((chatRoomId, buffer) -> {
+            if (buffer.lastAccess < threshold) {
+                evict(chatRoomId);
+            }
+        });
+    }
+
+    // 전체 메모리 상한 초과 시 가장 오래 사용되지 않은 방부터 제거 (방금 사용한 방 제외)
+    private void enforceBudget(Long currentRoomId) {
+        while (totalBytes.get() > maxBytes) {
+            Optional<Long> victim = rooms.entrySet().stream()
+                    .filter(entry -> !entry.getKey().equals(currentRoomId))
+                    .min(Comparator.comparingLong(entry -> entry.getValue().lastAccess))
+                    .map(Map.Entry::getKey);
+
+            if (victim.isEmpty()) {
+                return;
+            }
+            evict(victim.get());
+        }
+    }
+
+    private void evict(Long chatRoomId) {
+        RoomBuffer buffer = rooms.remove(chatRoomId);
+        if (buffer == null) {
+            return;
+        }
+
+        buffer.lock.lock();
+        try {
+            buffer.removed = true;
+            buffer.release();
+        } finally {
+            buffer.lock.unlock();
+        }
+    }
+
+    private int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+
+    private byte[] encode(ChatMessageDto message) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            writeLong(out, message.getMessageId());
+            writeLong(out, message.getSeq());
+            writeString(out, message.getMessage());
+            out.writeBoolean(message.isDeleted());
+            writeLong(out, message.getSender());
+            writeString(out, message.getSenderName());
+            out.writeLong(message.getCreatedAt().toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(message.getCreatedAt().getNano());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private ChatMessageDto decode(byte[] encoded) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(encoded))) {
+            return ChatMessageDto.builder()
+                    .messageId(readLong(in))
+                    .seq(readLong(in))
+                    .message(readString(in))
+                    .isDeleted(in.readBoolean())
+                    .sender(readLong(in))
+                    .senderName(readString(in))
+                    .createdAt(LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC))
+                    .build();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeLong(DataOutputStream out, Long value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value);
+        }
+    }
+
+    private Long readLong(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readLong() : null;
+    }
+
+    private void writeString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private String readString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    // on-heap: message에 DTO 그대로, off-heap: slab 안의 누적 위치(offset)와 길이
+    private record Slot(long seq, ChatMessageDto message, long offset, int length, int bytes) {
+    }
+
+    private final class RoomBuffer {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final ArrayDeque<Slot> slots = new ArrayDeque<>();
+
+        // off-heap 모드의 방 전용 링 (메시지마다 direct buffer를 할당하지 않음)
+        private final ByteBuffer slab;
+        // 지금까지 쓴 누적 위치, slab 안의 위치는 writeOffset % slab 크기
+        private long writeOffset = 0;
+
+        // 방의 삭제되지 않은 메시지 전체를 보관 중인지
+        private boolean complete = false;
+        private boolean removed = false;
+        private volatile long lastAccess = System.currentTimeMillis();
+
+        private RoomBuffer() {
+            this.slab = offHeap ? ByteBuffer.allocateDirect(slabBytes) : null;
+            if (slab != null) {
+                totalBytes.addAndGet(slabBytes);
+            }
+        }
+
+        private void add(ChatMessageDto message) {
+            long seq = message.getSeq() == null ? 0L : message.getSeq();
+
+            if (slab == null) {
+                int bytes = 64 + 2 * (length(message.getMessage()) + length(message.getSenderName()));
+                addSlot(new Slot(seq, message, 0, 0, bytes));
+                return;
+            }
+
+            byte[] encoded = encode(message);
+            int size = slab.capacity();
+            if (encoded.length > size) {
+                // slab보다 큰 메시지는 보관하지 않음 (빈틈이 생기므로 이후 조회는 DB로)
+                clear();
+                return;
+            }
+
+            // 끝에 들어가지 않으면 남은 공간은 건너뛰고 처음부터
+            long start = writeOffset;
+            int position = (int) (start % size);
+            if (position + encoded.length > size) {
+                start += size - position;
+            }
+            long end = start + encoded.length;
+
+            // 덮어쓸 영역에 있던 오래된 메시지 제거
+            while (!slots.isEmpty() && slots.peekFirst().offset() < end - size) {
+                removeOldest();
+            }
+
+            slab.put((int) (start % size), encoded);
+            writeOffset = end;
+            addSlot(new Slot(seq, null, start, encoded.length, OFF_HEAP_SLOT_BYTES));
+        }
+
+        private ChatMessageDto read(Slot slot) {
+            if (slot.message() != null) {
+                return slot.message();
+            }
+
+            byte[] encoded = new byte[slot.length()];
+            slab.get((int) (slot.offset() % slab.capacity()), encoded);
+            return decode(encoded);
+        }
+
+        private void addSlot(Slot slot) {
+            slots.addLast(slot);
+            totalBytes.addAndGet(slot.bytes());
+
+            while (slots.size() > capacity) {
+                removeOldest();
+            }
+        }
+
+        private void removeOldest() {
+            Slot oldest = slots.pollFirst();
+            totalBytes.addAndGet(-oldest.bytes());
+            complete = false;
+        }
+
+        private void clear() {
+            slots.forEach(slot -> totalBytes.addAndGet(-slot.bytes()));
+            slots.clear();
+            complete = false;
+        }
+
+        // 방 제거 시 slab 몫까지 반환 (direct 메모리는 slab이 GC될 때 해제)
+        private void release() {
+            clear();
+            if (slab != null) {
+                totalBytes.addAndGet(-slabBytes);
+            }
+        }
+
+        private void touch() {
+            lastAccess = System.currentTimeMillis();
+        }
+    }
+}
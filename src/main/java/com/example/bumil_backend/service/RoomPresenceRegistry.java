@@ -0,0 +1,208 @@
+package com.example.bumil_backend.service;
+
+import com.example.bumil_backend.dto.websocket.response.PresenceMember;
+import com.example.bumil_backend.dto.websocket.response.PresenceResponse;
+import com.example.bumil_backend.event.ChatRoomDeletedEvent;
+import com.example.bumil_backend.security.StompPrincipal;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.socket.messaging.AbstractSubProtocolEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 채팅방 접속자/입력 중 표시 (메모리에만 보관, DB 조회 없음)
+// 구독/해제/연결 종료 이벤트와 입력 중 신호로 갱신하고, 방마다 broadcast-interval 동안 한 번만 전송
+// 노드 로컬: 이 노드에 연결된 세션만 알고 있음 (relay 모드에서 다른 노드의 접속자는 포함되지 않으며, 각 노드가 자기 접속자만 전송)
+@Component
+@RequiredArgsConstructor
+public class RoomPresenceRegistry {
+
+    private static final String PRESENCE_SUFFIX = "/presence";
+
+    private final ChatBroadcaster chatBroadcaster;
+
+    @Value("${chat.presence.typing-ttl-ms:5000}")
+    private long typingTtlMillis;
+
+    private final ConcurrentHashMap<Long, RoomPresence> rooms = new ConcurrentHashMap<>();
+
+    // 세션 -> (구독 ID -> 채팅방), 해제/연결 종료 시 정리용
+    private final ConcurrentHashMap<String, Map<String, Long>> subscriptions = new ConcurrentHashMap<>();
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Long chatRoomId = roomIdOf(accessor.getDestination());
+        StompPrincipal principal = principalOf(event);
+        if (chatRoomId == null || principal == null) {
+            return;
+        }
+
+        String sessionId = accessor.getSessionId();
+        subscriptions.computeIfAbsent(sessionId, id -> new ConcurrentHashMap<>())
+                .put(accessor.getSubscriptionId(), chatRoomId);
+
+        PresenceMember member = new PresenceMember(principal.id(), principal.name());
+        rooms.compute(chatRoomId, (id, room) -> {
+            RoomPresence presence = (room != null) ? room : new RoomPresence(chatBroadcaster.destination(id) + PRESENCE_SUFFIX);
+            presence.members.put(sessionId, member);
+            presence.dirty.set(true);
+            return presence;
+        });
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String sessionId = accessor.getSessionId();
+
+        Map<String, Long> sessionSubscriptions = subscriptions.get(sessionId);
+        if (sessionSubscriptions == null) {
+            return;
+        }
+
+        Long chatRoomId = sessionSubscriptions.remove(accessor.getSubscriptionId());
+        if (chatRoomId != null && !sessionSubscriptions.containsValue(chatRoomId)) {
+            leave(chatRoomId, sessionId);
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        Map<String, Long> sessionSubscriptions = subscriptions.remove(event.getSessionId());
+        if (sessionSubscriptions == null) {
+            return;
+        }
+
+        sessionSubscriptions.values().stream()
+                .distinct()
+                .forEach(chatRoomId -> leave(chatRoomId, event.getSessionId()));
+    }
+
+    // 입력 중 신호 (해당 방을 구독 중인 세션만 반영)
+    public void typing(Long chatRoomId, String sessionId) {
+        RoomPresence room = rooms.get(chatRoomId);
+        if (room == null) {
+            return;
+        }
+
+        PresenceMember member = room.members.get(sessionId);
+        if (member == null) {
+            return;
+        }
+
+        Long previous = room.typingUntil.put(member.getUserId(), System.currentTimeMillis() + typingTtlMillis);
+        if (previous == null) {
+            room.dirty.set(true);
+        }
+    }
+
+    @TransactionalEventListener
+    public void onChatRoomDeleted(ChatRoomDeletedEvent event) {
+        rooms.remove(event.getChatRoomId());
+    }
+
+    // 변경된 방만 묶어서 전송 (방마다 주기당 최대 1회)
+    @Scheduled(fixedDelayString = "${chat.presence.broadcast-interval-ms:1000}")
+    public void flush() {
+        long now = System.currentTimeMillis();
+
+        rooms.forEach((chatRoomId, room) -> {
+            // 입력 중 만료
+            if (room.typingUntil.values().removeIf(until -> until <= now)) {
+                room.dirty.set(true);
+            }
+
+            if (room.dirty.compareAndSet(true, false)) {
+                chatBroadcaster.send(room.destination, snapshot(chatRoomId, room));
+            }
+
+            // 빈 방 제거 (구독 추가와 같은 키 단위로 원자적으로 처리)
+            if (room.members.isEmpty()) {
+                rooms.computeIfPresent(chatRoomId, (id, current) -> current.members.isEmpty() ? null : current);
+            }
+        });
+    }
+
+    public PresenceResponse getPresence(Long chatRoomId) {
+        RoomPresence room = rooms.get(chatRoomId);
+        return (room == null)
+                ? PresenceResponse.builder().chatRoomId(chatRoomId).online(List.of()).typing(List.of()).build()
+                : snapshot(chatRoomId, room);
+    }
+
+    // 보관 중인 방/세션 수 (메모리가 접속자 수에 비례해 줄어드는지 확인용)
+    int roomCount() {
+        return rooms.size();
+    }
+
+    int sessionCount() {
+        return subscriptions.size();
+    }
+
+    private void leave(Long chatRoomId, String sessionId) {
+        RoomPresence room = rooms.get(chatRoomId);
+        if (room == null) {
+            return;
+        }
+
+        PresenceMember member = room.members.remove(sessionId);
+        if (member == null) {
+            return;
+        }
+
+        // 같은 사용자의 다른 세션이 남아 있지 않으면 입력 중 표시도 제거
+        if (!room.members.containsValue(member)) {
+            room.typingUntil.remove(member.getUserId());
+        }
+        room.dirty.set(true);
+    }
+
+    private PresenceResponse snapshot(Long chatRoomId, RoomPresence room) {
+        return PresenceResponse.builder()
+                .chatRoomId(chatRoomId)
+                .online(room.members.values().stream()
+                        .distinct()
+                        .sorted(Comparator.comparing(PresenceMember::getUserId))
+                        .toList())
+                .typing(room.typingUntil.keySet().stream()
+                        .sorted()
+                        .toList())
+                .build();
+    }
+
+    private StompPrincipal principalOf(AbstractSubProtocolEvent event) {
+        return (event.getUser() instanceof StompPrincipal principal) ? principal : null;
+    }
+
+    // 채팅방 메시지 구독(/sub/chat/room/{roomId})만 접속으로 취급
+    private Long roomIdOf(String destination) {
+        return chatBroadcaster.roomIdOf(destination);
+    }
+
+    private static final class RoomPresence {
+        // 방이 유지되는 동안 같은 경로를 재사용 (flush마다 문자열 생성하지 않음)
+        private final String destination;
+        // 세션 ID -> 사용자 (한 사용자가 여러 탭으로 접속 가능)
+        private final ConcurrentHashMap<String, PresenceMember> members = new ConcurrentHashMap<>();
+        // 사용자 ID -> 입력 중 표시 만료 시각
+        private final ConcurrentHashMap<Long, Long> typingUntil = new ConcurrentHashMap<>();
+        private final AtomicBoolean dirty = new AtomicBoolean();
+
+        private RoomPresence(String destination) {
+            this.destination = destination;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.bumil_backend.common.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SnowflakeIdGeneratorTest {
+
+    @Test
+    void 한_노드에서_발급한_ID는_항상_증가한다() {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1L, "simple");
+
+        long previous = generator.nextId();
+        // 같은 밀리초에 시퀀스(4096)를 여러 번 넘기도록 충분히 발급
+        for (int i = 0; i < 100_000; i++) {
+            long next = generator.nextId();
+            assertThat(next).isGreaterThan(previous);
+            previous = next;
+        }
+    }
+
+    @Test
+    void 동시에_발급해도_겹치지_않는다() throws Exception {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1L, "simple");
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        List<Future<?>> futures = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 20_000; i++) {
+                        ids.add(generator.nextId());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+        }
+
+        assertThat(ids).hasSize(160_000);
+    }
+
+    @Test
+    void 노드가_다르면_같은_시각에도_ID가_다르다() {
+        SnowflakeIdGenerator node1 = new SnowflakeIdGenerator(1L, "relay");
+        SnowflakeIdGenerator node2 = new SnowflakeIdGenerator(2L, "relay");
+
+        Set<Long> ids = new HashSet<>();
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(node1.nextId());
+            ids.add(node2.nextId());
+        }
+
+        assertThat(ids).hasSize(20_000);
+        // 노드 비트(12~21)에 node-id가 들어감
+        assertThat((node2.nextId() >> 12) & 0x3FF).isEqualTo(2L);
+    }
+
+    @Test
+    void relay_모드에서는_node_id가_필요하다() {
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(null, "relay"))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(new SnowflakeIdGenerator(null, "simple").nextId()).isPositive();
+    }
+
+    @Test
+    void node_id_범위를_검사한다() {
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(1024L, "simple"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(-1L, "simple"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void ID는_2의_53승을_넘는다() {
+        // JavaScript number로 정확히 표현되지 않으므로 JSON에서는 문자열로 내보냄
+        assertThat(new SnowflakeIdGenerator(0L, "simple").nextId()).isGreaterThan(1L << 53);
+    }
+}
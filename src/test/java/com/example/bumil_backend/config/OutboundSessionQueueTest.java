@@ -0,0 +1,171 @@
+package com.example.bumil_backend.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OutboundSessionQueueTest {
+
+    private static final int FRAME_SIZE = 100;
+    private static final int BUFFER_LIMIT = 10 * FRAME_SIZE;
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch sending = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void 느린_세션은_오래된_프레임을_버리고_정상_세션은_모두_받는다() throws Exception {
+        List<WebSocketMessage<?>> healthyReceived = new CopyOnWriteArrayList<>();
+        OutboundSessionQueue healthy = new OutboundSessionQueue(
+                healthySession("healthy", healthyReceived), 10_000, BUFFER_LIMIT, OutboundSessionQueue.OverflowPolicy.DROP_OLDEST);
+        OutboundSessionQueue stalled = new OutboundSessionQueue(
+                stalledSession("stalled"), 10_000, BUFFER_LIMIT, OutboundSessionQueue.OverflowPolicy.DROP_OLDEST);
+
+        // 첫 프레임 전송이 멈춘 상태 (전송 스레드 하나만 붙잡힘)
+        executor.submit(() -> {
+            stalled.sendMessage(frame());
+            return null;
+        });
+        awaitSending();
+
+        // 브로드캐스트 스레드는 느린 세션 때문에 막히지 않아야 함
+        CompletableFuture<Void> broadcast = CompletableFuture.runAsync(() -> {
+            for (int i = 0; i < 1_000; i++) {
+                send(stalled, frame());
+                send(healthy, frame());
+            }
+        }, executor);
+        broadcast.get(5, TimeUnit.SECONDS);
+
+        assertThat(healthyReceived).hasSize(1_000);
+        assertThat(healthy.getDroppedFrames()).isZero();
+        assertThat(healthy.getBufferedBytes()).isZero();
+
+        assertThat(stalled.getBufferedBytes()).isLessThanOrEqualTo(BUFFER_LIMIT);
+        assertThat(stalled.getBufferedMessages()).isEqualTo(BUFFER_LIMIT / FRAME_SIZE);
+        assertThat(stalled.getDroppedFrames()).isEqualTo(1_000 - BUFFER_LIMIT / FRAME_SIZE);
+
+        // 전송이 풀리면 남아 있던 최신 프레임만 이어서 전송
+        release.countDown();
+        await(() -> stalled.getBufferedMessages() == 0);
+        assertThat(stalled.getSentFrames()).isEqualTo(1 + BUFFER_LIMIT / FRAME_SIZE);
+    }
+
+    @Test
+    void DISCONNECT_정책은_대기열_상한_초과시_연결을_끊는다() throws Exception {
+        WebSocketSession delegate = stalledSession("stalled");
+        OutboundSessionQueue stalled = new OutboundSessionQueue(
+                delegate, 10_000, BUFFER_LIMIT, OutboundSessionQueue.OverflowPolicy.DISCONNECT);
+
+        executor.submit(() -> {
+            stalled.sendMessage(frame());
+            return null;
+        });
+        awaitSending();
+
+        for (int i = 0; i <= BUFFER_LIMIT / FRAME_SIZE; i++) {
+            stalled.sendMessage(frame());
+        }
+
+        verify(delegate, timeout(1_000)).close(CloseStatus.SESSION_NOT_RELIABLE);
+        assertThat(stalled.getBufferedBytes()).isZero();
+        assertThat(stalled.getDroppedFrames()).isZero();
+    }
+
+    @Test
+    void 전송_시간_상한을_넘기면_연결을_끊는다() throws Exception {
+        WebSocketSession delegate = stalledSession("stalled");
+        OutboundSessionQueue stalled = new OutboundSessionQueue(
+                delegate, 50, BUFFER_LIMIT, OutboundSessionQueue.OverflowPolicy.DROP_OLDEST);
+
+        executor.submit(() -> {
+            stalled.sendMessage(frame());
+            return null;
+        });
+        awaitSending();
+
+        stalled.sendMessage(frame());
+        verify(delegate, never()).close(any());
+
+        Thread.sleep(100);
+        stalled.sendMessage(frame());
+        verify(delegate, timeout(1_000)).close(CloseStatus.SESSION_NOT_RELIABLE);
+    }
+
+    private WebSocketSession healthySession(String id, List<WebSocketMessage<?>> received) throws Exception {
+        WebSocketSession session = openSession(id);
+        doAnswer(invocation -> received.add(invocation.getArgument(0))).when(session).sendMessage(any());
+        return session;
+    }
+
+    // 클라이언트가 읽지 않아 전송이 release 전까지 멈추는 세션
+    private WebSocketSession stalledSession(String id) throws Exception {
+        WebSocketSession session = openSession(id);
+        doAnswer(invocation -> {
+            sending.countDown();
+            release.await();
+            return null;
+        }).when(session).sendMessage(any());
+        return session;
+    }
+
+    private WebSocketSession openSession(String id) {
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn(id);
+        when(session.isOpen()).thenReturn(true);
+        return session;
+    }
+
+    private static TextMessage frame() {
+        return new TextMessage("x".repeat(FRAME_SIZE));
+    }
+
+    private static void send(OutboundSessionQueue queue, WebSocketMessage<?> message) {
+        try {
+            queue.sendMessage(message);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void awaitSending() throws InterruptedException {
+        assertThat(sending.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("조건을 만족하지 못했습니다.");
+            }
+            Thread.sleep(5);
+        }
+    }
+}
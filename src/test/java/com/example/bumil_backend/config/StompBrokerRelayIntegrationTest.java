@@ -0,0 +1,264 @@
+package com.example.bumil_backend.config;
+
+import com.example.bumil_backend.BumilBackendApplication;
+import com.example.bumil_backend.entity.ChatRoom;
+import com.example.bumil_backend.entity.Users;
+import com.example.bumil_backend.support.ChatTestFixture;
+import org.apache.activemq.artemis.core.config.impl.ConfigurationImpl;
+import org.apache.activemq.artemis.core.server.embedded.EmbeddedActiveMQ;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.messaging.simp.broker.AbstractBrokerMessageHandler;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.lang.reflect.Type;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// relay 모드 다중 노드: 내장 STOMP 브로커(Artemis) 하나에 앱 컨텍스트 두 개를 붙여
+// 노드 A에서 보낸 메시지가 노드 B의 구독자에게 전달되는지와 그 지연 측정
+// DB는 다른 @SpringBootTest와 같은 설정(MySQL) 사용, 두 노드가 같은 DB를 공유
+// 컨텍스트 2개 + 브로커를 띄우므로 test에서는 제외, ./gradlew benchmark --tests '*StompBrokerRelayIntegrationTest'
+@Tag("benchmark")
+class StompBrokerRelayIntegrationTest {
+
+    private static final int MESSAGES = 20;
+    private static final long SEND_INTERVAL_MILLIS = 100;
+    private static final long MAX_P99_LATENCY_MILLIS = Long.getLong("benchmark.relay.max-p99-ms", 500);
+
+    private static EmbeddedActiveMQ broker;
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().build();
+
+    private ChatTestFixture fixture;
+    private Users user;
+    private ChatRoom chatRoom;
+    private WebSocketStompClient stompClient;
+
+    @BeforeAll
+    static void startCluster() throws Exception {
+        int brokerPort = freePort();
+
+        broker = new EmbeddedActiveMQ();
+        broker.setConfiguration(new ConfigurationImpl()
+                .setPersistenceEnabled(false)
+                .setSecurityEnabled(false)
+                .setJMXManagementEnabled(false)
+                .addAcceptorConfiguration("stomp", "tcp://localhost:" + brokerPort + "?protocols=STOMP"));
+        broker.start();
+
+        nodeA = startNode(1, brokerPort);
+        nodeB = startNode(2, brokerPort);
+    }
+
+    @AfterAll
+    static void stopCluster() throws Exception {
+        if (nodeA != null) {
+            nodeA.close();
+        }
+        if (nodeB != null) {
+            nodeB.close();
+        }
+        if (broker != null) {
+            broker.stop();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        fixture = ChatTestFixture.of(nodeA);
+        user = fixture.createUser("relay");
+        chatRoom = fixture.createPublicRoom(user, "relay-" + fixture.run());
+
+        stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        stompClient.setDefaultHeartbeat(new long[]{0, 0});
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (stompClient != null) {
+            stompClient.stop();
+        }
+        if (fixture != null) {
+            fixture.cleanUp();
+        }
+    }
+
+    @Test
+    void 노드_A에서_보낸_메시지를_노드_B의_구독자가_받는다() throws Exception {
+        StompSession sender = connect(nodeA);
+        StompSession receiver = connect(nodeB);
+
+        try {
+            BlockingQueue<Long> latencies = new LinkedBlockingQueue<>();
+            subscribe(receiver, new LatencyRecorder(latencies));
+
+            for (int i = 0; i < MESSAGES; i++) {
+                send(sender, "relay-" + System.nanoTime());
+                Thread.sleep(SEND_INTERVAL_MILLIS);
+            }
+
+            long[] received = new long[MESSAGES];
+            for (int i = 0; i < MESSAGES; i++) {
+                Long latency = latencies.poll(10, TimeUnit.SECONDS);
+                assertThat(latency).as("%d번째 메시지가 노드 B에 도착해야 함", i + 1).isNotNull();
+                received[i] = latency;
+            }
+            // 노드 간 전달 지연 (브로커 한 번 경유)
+            assertThat(TimeUnit.NANOSECONDS.toMillis(percentile(received, 0.99)))
+                    .as("노드 간 전달 p99 (ms)")
+                    .isLessThan(MAX_P99_LATENCY_MILLIS);
+
+            // 순번은 DB에서 발급 (relay 모드는 database 순번 사용)
+            Long lastSeq = nodeB.getBean(JdbcTemplate.class).queryForObject(
+                    "SELECT MAX(seq) FROM chat_messages WHERE chat_room_id = ?", Long.class, chatRoom.getId());
+            assertThat(lastSeq).isEqualTo((long) MESSAGES);
+        } finally {
+            sender.disconnect();
+            receiver.disconnect();
+        }
+    }
+
+    @Test
+    void 양쪽_노드의_구독자가_모두_받는다() throws Exception {
+        StompSession senderA = connect(nodeA);
+        StompSession receiverA = connect(nodeA);
+        StompSession receiverB = connect(nodeB);
+
+        try {
+            BlockingQueue<Long> onA = new LinkedBlockingQueue<>();
+            BlockingQueue<Long> onB = new LinkedBlockingQueue<>();
+            subscribe(receiverA, new LatencyRecorder(onA));
+            subscribe(receiverB, new LatencyRecorder(onB));
+
+            send(senderA, "relay-" + System.nanoTime());
+
+            assertThat(onA.poll(10, TimeUnit.SECONDS)).as("같은 노드 구독자").isNotNull();
+            assertThat(onB.poll(10, TimeUnit.SECONDS)).as("다른 노드 구독자").isNotNull();
+        } finally {
+            senderA.disconnect();
+            receiverA.disconnect();
+            receiverB.disconnect();
+        }
+    }
+
+    private static ConfigurableApplicationContext startNode(int nodeId, int brokerPort) throws Exception {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(BumilBackendApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.jmx.enabled=false",
+                        "spring.datasource.hikari.pool-name=relay-node-" + nodeId,
+                        "id.snowflake.node-id=" + nodeId,
+                        "chat.message.sequencer.mode=database",
+                        "websocket.broker.mode=relay",
+                        "websocket.broker.relay.host=localhost",
+                        "websocket.broker.relay.port=" + brokerPort,
+                        "websocket.rate-limit.enabled=false"
+                )
+                .run();
+
+        // 시스템 연결(서버 -> 브로커)이 맺어져야 브로드캐스트가 브로커로 전달됨
+        AbstractBrokerMessageHandler relay =
+                context.getBean("stompBrokerRelayMessageHandler", AbstractBrokerMessageHandler.class);
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(30);
+        while (!relay.isBrokerAvailable()) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new IllegalStateException("노드 " + nodeId + "가 브로커에 연결하지 못했습니다.");
+            }
+            Thread.sleep(50);
+        }
+        return context;
+    }
+
+    private StompSession connect(ConfigurableApplicationContext node) throws Exception {
+        String token = node.getBean(TokenProvider.class)
+                .createAccessToken(user.getEmail(), user.getRole().name(), user.getName(), user.getId());
+
+        StompHeaders connectHeaders = new StompHeaders();
+        connectHeaders.add("Authorization", "Bearer " + token);
+
+        String url = "ws://localhost:" + node.getEnvironment().getProperty("local.server.port") + "/ws-chat-native";
+        return stompClient.connectAsync(url, null, connectHeaders, new StompSessionHandlerAdapter() {
+        }).get(10, TimeUnit.SECONDS);
+    }
+
+    // 브로커가 구독을 등록한 뒤(RECEIPT) 전송해야 첫 메시지를 놓치지 않음
+    private void subscribe(StompSession session, StompFrameHandler handler) throws InterruptedException {
+        StompHeaders headers = new StompHeaders();
+        headers.setDestination("/sub/chat/room/" + chatRoom.getId());
+        headers.setReceipt(UUID.randomUUID().toString());
+
+        CountDownLatch subscribed = new CountDownLatch(1);
+        StompSession.Subscription subscription = session.subscribe(headers, handler);
+        subscription.addReceiptTask(subscribed::countDown);
+        assertThat(subscribed.await(10, TimeUnit.SECONDS)).as("구독 RECEIPT").isTrue();
+    }
+
+    private void send(StompSession session, String message) {
+        StompHeaders headers = new StompHeaders();
+        headers.setDestination("/pub/chat/room/" + chatRoom.getId());
+        headers.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        session.send(headers, ("{\"message\":\"" + message + "\"}").getBytes(StandardCharsets.UTF_8));
+    }
+
+    private long percentile(long[] latencies, double percentile) {
+        long[] sorted = latencies.clone();
+        Arrays.sort(sorted);
+        return sorted[Math.min(sorted.length - 1, (int) (sorted.length * percentile))];
+    }
+
+    private static int freePort() throws Exception {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    // 보낸 시각(같은 JVM의 nanoTime)을 메시지 본문에서 읽어 전달 지연 기록
+    private final class LatencyRecorder implements StompFrameHandler {
+        private final BlockingQueue<Long> latencies;
+
+        private LatencyRecorder(BlockingQueue<Long> latencies) {
+            this.latencies = latencies;
+        }
+
+        @Override
+        public Type getPayloadType(StompHeaders headers) {
+            return byte[].class;
+        }
+
+        @Override
+        public void handleFrame(StompHeaders headers, Object payload) {
+            JsonNode message = objectMapper.readTree((byte[]) payload);
+            String text = message.path("message").asString("");
+            if (text.startsWith("relay-")) {
+                latencies.add(System.nanoTime() - Long.parseLong(text.substring("relay-".length())));
+            }
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.example.bumil_backend.config;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+// 실행 중인 서버에 세션 N개를 붙여 채팅방 브로드캐스트의 세션별 순서와 전달 지연 측정
+// ./gradlew benchmark -Dloadtest.token=<JWT> -Dloadtest.room-id=<채팅방 ID> [-Dloadtest.url=ws://host:8080/ws-chat-native]
+// 토큰 사용자는 해당 채팅방 권한이 있어야 함, 서버의 websocket.rate-limit 설정에 맞춰 loadtest.send-interval-ms 조정
+@Tag("benchmark")
+class StompFanOutLoadTest {
+
+    private static final String URL = System.getProperty("loadtest.url", "ws://localhost:8080/ws-chat-native");
+    private static final String TOKEN = System.getProperty("loadtest.token");
+    private static final String ROOM_ID = System.getProperty("loadtest.room-id");
+    private static final int MESSAGES = Integer.getInteger("loadtest.messages", 50);
+    private static final long SEND_INTERVAL_MILLIS = Long.getLong("loadtest.send-interval-ms", 250);
+    private static final int CONNECT_CONCURRENCY = Integer.getInteger("loadtest.connect-concurrency", 200);
+    private static final long SETTLE_MILLIS = Long.getLong("loadtest.settle-ms", 3000);
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().build();
+
+    @ParameterizedTest(name = "세션 {0}개")
+    @ValueSource(ints = {1_000, 10_000})
+    void 모든_세션이_메시지를_순번_순서대로_받는다(int sessionCount) throws Exception {
+        assumeTrue(TOKEN != null && ROOM_ID != null, "loadtest.token, loadtest.room-id 를 지정해야 실행됩니다.");
+
+        WebSocketStompClient stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        stompClient.setDefaultHeartbeat(new long[]{0, 0});
+        stompClient.setInboundMessageSizeLimit(64 * 1024);
+
+        String destination = "/sub/chat/room/" + ROOM_ID;
+        CountDownLatch allReceived = new CountDownLatch(sessionCount);
+        ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+        AtomicInteger outOfOrder = new AtomicInteger();
+        List<StompSession> sessions = connect(stompClient, sessionCount);
+
+        try {
+            for (StompSession session : sessions) {
+                session.subscribe(destination, new SessionRecorder(allReceived, latencies, outOfOrder));
+            }
+            // SUBSCRIBE 처리(권한 확인) 대기
+            Thread.sleep(SETTLE_MILLIS);
+
+            StompSession sender = sessions.get(0);
+            for (int i = 0; i < MESSAGES; i++) {
+                StompHeaders headers = new StompHeaders();
+                headers.setDestination("/pub/chat/room/" + ROOM_ID);
+                headers.setContentType(MimeTypeUtils.APPLICATION_JSON);
+                String body = "{\"message\":\"load-" + System.currentTimeMillis() + "\"}";
+                sender.send(headers, body.getBytes(StandardCharsets.UTF_8));
+                Thread.sleep(SEND_INTERVAL_MILLIS);
+            }
+
+            boolean completed = allReceived.await(60, TimeUnit.SECONDS);
+            report(sessionCount, latencies);
+
+            assertThat(completed).as("모든 세션이 %d건을 받아야 함", MESSAGES).isTrue();
+            assertThat(outOfOrder.get()).as("순번 역전").isZero();
+        } finally {
+            sessions.forEach(StompSession::disconnect);
+            stompClient.stop();
+        }
+    }
+
+    private List<StompSession> connect(WebSocketStompClient stompClient, int sessionCount) throws Exception {
+        StompHeaders connectHeaders = new StompHeaders();
+        connectHeaders.add("Authorization", "Bearer " + TOKEN);
+
+        Semaphore inFlight = new Semaphore(CONNECT_CONCURRENCY);
+        List<CompletableFuture<StompSession>> futures = new ArrayList<>(sessionCount);
+        for (int i = 0; i < sessionCount; i++) {
+            inFlight.acquire();
+            CompletableFuture<StompSession> future =
+                    stompClient.connectAsync(URL, null, connectHeaders, new StompSessionHandlerAdapter() {
+                    });
+            future.whenComplete((session, error) -> inFlight.release());
+            futures.add(future);
+        }
+
+        List<StompSession> sessions = new ArrayList<>(sessionCount);
+        for (CompletableFuture<StompSession> future : futures) {
+            sessions.add(future.get(30, TimeUnit.SECONDS));
+        }
+        return sessions;
+    }
+
+    private void report(int sessionCount, ConcurrentLinkedQueue<Long> latencies) {
+        long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+        if (sorted.length == 0) {
+            System.out.printf("sessions=%d received=0%n", sessionCount);
+            return;
+        }
+
+        System.out.printf("sessions=%d received=%d p50=%dms p99=%dms max=%dms%n",
+                sessionCount, sorted.length,
+                sorted[(int) (sorted.length * 0.50)],
+                sorted[Math.min(sorted.length - 1, (int) (sorted.length * 0.99))],
+                sorted[sorted.length - 1]);
+    }
+
+    // 세션 하나의 수신 기록 (순번 역전 여부, 보낸 시각 기준 지연)
+    private final class SessionRecorder implements StompFrameHandler {
+        private final CountDownLatch allReceived;
+        private final ConcurrentLinkedQueue<Long> latencies;
+        private final AtomicInteger outOfOrder;
+        private final AtomicLong lastSeq = new AtomicLong();
+        private final AtomicInteger received = new AtomicInteger();
+
+        private SessionRecorder(CountDownLatch allReceived, ConcurrentLinkedQueue<Long> latencies, AtomicInteger outOfOrder) {
+            this.allReceived = allReceived;
+            this.latencies = latencies;
+            this.outOfOrder = outOfOrder;
+        }
+
+        @Override
+        public Type getPayloadType(StompHeaders headers) {
+            return byte[].class;
+        }
+
+        @Override
+        public void handleFrame(StompHeaders headers, Object payload) {
+            JsonNode message = objectMapper.readTree((byte[]) payload);
+            String text = message.path("message").asString("");
+            if (!text.startsWith("load-")) {
+                return;
+            }
+
+            long seq = message.path("seq").asLong();
+            if (seq <= lastSeq.getAndSet(seq)) {
+                outOfOrder.incrementAndGet();
+            }
+            latencies.add(System.currentTimeMillis() - Long.parseLong(text.substring("load-".length())));
+
+            if (received.incrementAndGet() == MESSAGES) {
+                allReceived.countDown();
+            }
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.example.bumil_backend.config;
+
+import com.example.bumil_backend.config.StompRateLimitInterceptor.Category;
+import com.example.bumil_backend.dto.websocket.response.StompErrorResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.security.Principal;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StompRateLimitInterceptorTest {
+
+    // 테스트 중에는 사실상 회복되지 않는 속도
+    private static final double NO_REFILL = 0.001;
+
+    private final SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+
+    @Test
+    void 경로_종류를_구분한다() {
+        assertThat(StompRateLimitInterceptor.categorize("/pub/chat/send")).isEqualTo(Category.CHAT);
+        assertThat(StompRateLimitInterceptor.categorize("/pub/chat/room/1")).isEqualTo(Category.CHAT);
+        assertThat(StompRateLimitInterceptor.categorize("/pub/chat/room/1/typing")).isEqualTo(Category.SIGNAL);
+        assertThat(StompRateLimitInterceptor.categorize("/pub/chat/room/1/read")).isEqualTo(Category.SIGNAL);
+        assertThat(StompRateLimitInterceptor.categorize("/pub/chat/room/1/resync")).isEqualTo(Category.OTHER);
+        assertThat(StompRateLimitInterceptor.categorize("/sub/chat/room/1")).isEqualTo(Category.OTHER);
+        assertThat(StompRateLimitInterceptor.categorize(null)).isEqualTo(Category.OTHER);
+    }
+
+    @Test
+    void 세션_버킷을_넘은_SEND는_버린다() {
+        StompRateLimitInterceptor interceptor = interceptor(3, 100);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(interceptor.preSend(send("s1", "u1", "/pub/chat/room/1"), null)).isNotNull();
+        }
+        assertThat(interceptor.preSend(send("s1", "u1", "/pub/chat/room/1"), null)).isNull();
+
+        assertThat(interceptor.getStats().getRejectedBySession()).isEqualTo(1);
+        assertThat(interceptor.getStats().getRejectedByCategory()).containsEntry("chat", 1L);
+    }
+
+    @Test
+    void 채팅과_신호는_다른_버킷을_쓴다() {
+        StompRateLimitInterceptor interceptor = interceptor(3, 100);
+
+        for (int i = 0; i < 3; i++) {
+            interceptor.preSend(send("s1", "u1", "/pub/chat/room/1"), null);
+        }
+
+        // 채팅 버킷이 비어도 입력 중/읽음 신호는 전송 가능
+        assertThat(interceptor.preSend(send("s1", "u1", "/pub/chat/room/1/typing"), null)).isNotNull();
+        assertThat(interceptor.preSend(send("s1", "u1", "/pub/chat/room/1/read"), null)).isNotNull();
+    }
+
+    @Test
+    void 여러_세션으로_나눠_보내도_사용자_버킷으로_제한한다() {
+        StompRateLimitInterceptor interceptor = interceptor(3, 4);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(interceptor.preSend(send("s1", "u1", "/pub/chat/room/1"), null)).isNotNull();
+        }
+        assertThat(interceptor.preSend(send("s2", "u1", "/pub/chat/room/1"), null)).isNotNull();
+        assertThat(interceptor.preSend(send("s2", "u1", "/pub/chat/room/1"), null)).isNull();
+
+        assertThat(interceptor.getStats().getRejectedByUser()).isEqualTo(1);
+    }
+
+    @Test
+    void pub_외_경로의_SEND도_제한한다() {
+        StompRateLimitInterceptor interceptor = interceptor(2, 100);
+
+        assertThat(interceptor.preSend(send("s1", "u1", "/app/anything"), null)).isNotNull();
+        assertThat(interceptor.preSend(send("s1", "u1", "/sub/chat/room/1"), null)).isNotNull();
+        assertThat(interceptor.preSend(send("s1", "u1", "/app/anything"), null)).isNull();
+
+        assertThat(interceptor.getStats().getRejectedByCategory()).containsEntry("other", 1L);
+    }
+
+    @Test
+    void 버린_프레임은_보낸_세션에_주기당_한_번만_알린다() {
+        StompRateLimitInterceptor interceptor = interceptor(1, 100);
+
+        interceptor.preSend(send("s1", "u1", "/pub/chat/room/1"), null);
+        for (int i = 0; i < 10; i++) {
+            interceptor.preSend(send("s1", "u1", "/pub/chat/room/1"), null);
+        }
+
+        verify(messagingTemplate, times(1)).convertAndSendToUser(
+                eq("u1"), eq(StompRateLimitInterceptor.ERROR_DESTINATION), any(StompErrorResponse.class), anyMap());
+    }
+
+    @Test
+    void SEND가_아닌_프레임과_비활성화_상태는_제한하지_않는다() {
+        StompRateLimitInterceptor interceptor = interceptor(1, 1);
+        for (int i = 0; i < 10; i++) {
+            assertThat(interceptor.preSend(frame(StompCommand.SUBSCRIBE, "s1", "u1", "/sub/chat/room/1"), null)).isNotNull();
+        }
+
+        StompRateLimitInterceptor disabled = new StompRateLimitInterceptor(provider(), false, 60_000,
+                1, NO_REFILL, 1, NO_REFILL, 1, NO_REFILL, 1, NO_REFILL, 1, NO_REFILL, 1, NO_REFILL);
+        for (int i = 0; i < 10; i++) {
+            assertThat(disabled.preSend(send("s1", "u1", "/pub/chat/room/1"), null)).isNotNull();
+        }
+        verify(messagingTemplate, never()).convertAndSendToUser(any(), any(), any(), anyMap());
+    }
+
+    @Test
+    void 연결이_끊기면_세션_버킷을_제거한다() {
+        StompRateLimitInterceptor interceptor = interceptor(3, 100);
+        interceptor.preSend(send("s1", "u1", "/pub/chat/room/1"), null);
+        assertThat(interceptor.getStats().getSessionBuckets()).isEqualTo(1);
+
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.DISCONNECT);
+        accessor.setSessionId("s1");
+        interceptor.onDisconnect(new SessionDisconnectEvent(
+                this, MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()), "s1", CloseStatus.NORMAL));
+
+        assertThat(interceptor.getStats().getSessionBuckets()).isZero();
+    }
+
+    private StompRateLimitInterceptor interceptor(int sessionBurst, int userBurst) {
+        return new StompRateLimitInterceptor(provider(), true, 60_000,
+                sessionBurst, NO_REFILL, userBurst, NO_REFILL,
+                sessionBurst, NO_REFILL, userBurst, NO_REFILL,
+                sessionBurst, NO_REFILL, userBurst, NO_REFILL);
+    }
+
+    @SuppressWarnings("unchecked")
+    private ObjectProvider<SimpMessagingTemplate> provider() {
+        ObjectProvider<SimpMessagingTemplate> provider = mock(ObjectProvider.class);
+        when(provider.getObject()).thenReturn(messagingTemplate);
+        return provider;
+    }
+
+    private Message<byte[]> send(String sessionId, String userName, String destination) {
+        return frame(StompCommand.SEND, sessionId, userName, destination);
+    }
+
+    private Message<byte[]> frame(StompCommand command, String sessionId, String userName, String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setSessionId(sessionId);
+        accessor.setDestination(destination);
+        accessor.setUser((Principal) () -> userName);
+        accessor.setSessionAttributes(Map.of());
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.bumil_backend.config;
+
+import com.example.bumil_backend.dto.message.ChatMessageDto;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// JSON / CBOR(원래 이름) / CBOR(짧은 이름) 메시지당 바이트 수와 인코딩/디코딩 시간 비교
+// ./gradlew benchmark --tests '*StompWireFormatBenchmarkTest' [-Dbenchmark.wire.iterations=200000]
+@Tag("benchmark")
+class StompWireFormatBenchmarkTest {
+
+    private static final int ITERATIONS = Integer.getInteger("benchmark.wire.iterations", 200_000);
+    private static final int WARMUP = ITERATIONS / 4;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().build();
+    private final CBORMapper cborMapper = CBORMapper.builder().build();
+    private final StompWireFormat wireFormat = new StompWireFormat(true, objectMapper);
+
+    @Test
+    void 메시지당_바이트_수와_인코딩_디코딩_시간을_측정한다() {
+        ChatMessageDto message = message(1);
+        List<ChatMessageDto> resync = new ArrayList<>();
+        for (int i = 1; i <= 50; i++) {
+            resync.add(message(i));
+        }
+
+        report("single", message);
+        report("resync-50", resync);
+    }
+
+    private void report(String name, Object payload) {
+        byte[] json = objectMapper.writeValueAsBytes(payload);
+        byte[] cborFull = cborMapper.writeValueAsBytes(objectMapper.valueToTree(payload));
+        byte[] cborShort = wireFormat.encodeCbor(payload);
+
+        long jsonEncode = measure(() -> objectMapper.writeValueAsBytes(payload));
+        long cborEncode = measure(() -> wireFormat.encodeCbor(payload));
+        long jsonDecode = measure(() -> objectMapper.readTree(json));
+        long cborDecode = measure(() -> CborKeys.expand(cborMapper.readTree(cborShort)));
+
+        System.out.printf("%s bytes: json=%d cbor=%d cbor-short=%d (%.0f%% of json)%n",
+                name, json.length, cborFull.length, cborShort.length, 100.0 * cborShort.length / json.length);
+        System.out.printf("%s ns/op: encode json=%d cbor-short=%d, decode json=%d cbor-short=%d%n",
+                name, jsonEncode, cborEncode, jsonDecode, cborDecode);
+
+        JsonNode decoded = CborKeys.expand(cborMapper.readTree(cborShort));
+        assertThat(decoded).isEqualTo(objectMapper.readTree(json));
+        assertThat(cborShort.length).isLessThan(json.length);
+    }
+
+    private long measure(Supplier<Object> operation) {
+        Object sink = null;
+        for (int i = 0; i < WARMUP; i++) {
+            sink = operation.get();
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink = operation.get();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        assertThat(sink).isNotNull();
+        return elapsed / ITERATIONS;
+    }
+
+    private ChatMessageDto message(int seq) {
+        return ChatMessageDto.builder()
+                .messageId(1_234_567_890_123_456_000L + seq)
+                .seq((long) seq)
+                .message("오늘 저녁 식단 뭐예요? " + seq)
+                .isDeleted(false)
+                .sender(7L)
+                .senderName("홍길동")
+                .createdAt(LocalDateTime.of(2025, 3, 1, 12, 30, 15).plusSeconds(seq))
+                .build();
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.bumil_backend.config;
+
+import com.example.bumil_backend.dto.message.ChatMessageDto;
+import com.example.bumil_backend.dto.message.ReadAckRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.support.MessageBuilder;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StompWireFormatTest {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().build();
+    private final StompWireFormat wireFormat = new StompWireFormat(true, objectMapper);
+    private final CBORMapper cborMapper = CBORMapper.builder().build();
+
+    @Test
+    void CBOR_payload는_앱_ObjectMapper_설정을_따르고_짧은_이름을_쓴다() {
+        ChatMessageDto message = message();
+
+        JsonNode json = objectMapper.readTree(objectMapper.writeValueAsBytes(message));
+        JsonNode cbor = CborKeys.expand(cborMapper.readTree(wireFormat.encodeCbor(message)));
+
+        // @JsonFormat(STRING) 등 값 형식은 JSON과 같고 필드 이름만 다름
+        assertThat(cbor).isEqualTo(json);
+        assertThat(cborMapper.readTree(wireFormat.encodeCbor(message)).get("i").isString()).isTrue();
+    }
+
+    @Test
+    void relay로_받은_JSON도_같은_CBOR로_바꾼다() {
+        ChatMessageDto message = message();
+
+        byte[] direct = wireFormat.encodeCbor(message);
+        byte[] converted = cborMapper.writeValueAsBytes(
+                CborKeys.compact(objectMapper.readTree(objectMapper.writeValueAsBytes(message))));
+
+        assertThat(converted).isEqualTo(direct);
+    }
+
+    @Test
+    void SEND_payload는_짧은_이름과_원래_이름_모두_읽는다() {
+        CborMessageConverter converter = wireFormat.messageConverter();
+
+        ReadAckRequest shortNames = (ReadAckRequest) converter.fromMessage(cbor(Map.of("q", 7)), ReadAckRequest.class);
+        ReadAckRequest fullNames = (ReadAckRequest) converter.fromMessage(cbor(Map.of("seq", 8)), ReadAckRequest.class);
+
+        assertThat(shortNames.getSeq()).isEqualTo(7L);
+        assertThat(fullNames.getSeq()).isEqualTo(8L);
+    }
+
+    private Message<byte[]> cbor(Object payload) {
+        return MessageBuilder.withPayload(cborMapper.writeValueAsBytes(payload))
+                .setHeader(MessageHeaders.CONTENT_TYPE, CborMessageConverter.APPLICATION_CBOR)
+                .build();
+    }
+
+    private ChatMessageDto message() {
+        return ChatMessageDto.builder()
+                .messageId(1_234_567_890_123_456_789L)
+                .seq(42L)
+                .message("안녕하세요")
+                .isDeleted(false)
+                .sender(7L)
+                .senderName("홍길동")
+                .createdAt(LocalDateTime.of(2025, 3, 1, 12, 30, 15))
+                .build();
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.bumil_backend.dto.chat.cursor;
+
+import com.example.bumil_backend.common.exception.BadRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ChatListCursorTest {
+
+    @Test
+    void 인코딩한_커서를_그대로_복원한다() {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 3, 1, 12, 30, 15, 123_000_000);
+
+        ChatListCursor cursor = ChatListCursor.decode(ChatListCursor.encode(createdAt, 42L), false);
+
+        assertThat(cursor.getCreatedAt()).isEqualTo(createdAt);
+        assertThat(cursor.getId()).isEqualTo(42L);
+    }
+
+    @Test
+    void 커서는_URL에_그대로_쓸_수_있다() {
+        String encoded = ChatListCursor.encode(LocalDateTime.of(2025, 3, 1, 12, 30), Long.MAX_VALUE);
+
+        assertThat(encoded).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void 커서가_없으면_정렬_방향의_시작점에서_조회한다() {
+        ChatListCursor recent = ChatListCursor.decode(null, false);
+        ChatListCursor oldest = ChatListCursor.decode(" ", true);
+
+        assertThat(recent.getId()).isEqualTo(Long.MAX_VALUE);
+        assertThat(oldest.getId()).isZero();
+        assertThat(recent.getCreatedAt()).isAfter(oldest.getCreatedAt());
+    }
+
+    @Test
+    void 잘못된_커서는_BadRequest() {
+        assertThatThrownBy(() -> ChatListCursor.decode("not-a-cursor", false))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> ChatListCursor.decode("%%%", false))
+                .isInstanceOf(BadRequestException.class);
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.bumil_backend.service;
+
+import com.example.bumil_backend.dto.chat.reaction.RoomLikeCount;
+import com.example.bumil_backend.event.ChatReactionChangedEvent;
+import com.example.bumil_backend.event.ChatRoomVisibilityChangedEvent;
+import com.example.bumil_backend.repository.ChatRoomRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BestChatLeaderboardTest {
+
+    private final ChatRoomRepository chatRoomRepository = mock(ChatRoomRepository.class);
+    private final BestChatLeaderboard leaderboard = new BestChatLeaderboard(chatRoomRepository);
+
+    @Test
+    void 늦게_도착한_이전_버전의_이벤트는_무시한다() {
+        leaderboard.onReactionChanged(new ChatReactionChangedEvent(1L, 6, 0, true, 2));
+        leaderboard.onReactionChanged(new ChatReactionChangedEvent(2L, 5, 0, true, 1));
+        // 1번 방의 이전 값(5)이 뒤늦게 도착
+        leaderboard.onReactionChanged(new ChatReactionChangedEvent(1L, 5, 0, true, 1));
+
+        assertThat(leaderboard.top(10)).containsExactly(1L, 2L);
+        assertThat(leaderboard.getBestChatRoomId()).isEqualTo(1L);
+    }
+
+    @Test
+    void 비공개로_바뀐_방은_순위에서_제외한다() {
+        leaderboard.onReactionChanged(new ChatReactionChangedEvent(1L, 3, 0, true, 1));
+        leaderboard.onVisibilityChanged(new ChatRoomVisibilityChangedEvent(1L, "title", false, 3, 2));
+
+        assertThat(leaderboard.top(10)).isEmpty();
+        assertThat(leaderboard.getBestChatRoomId()).isNull();
+    }
+
+    @Test
+    void 비공개_전환보다_늦게_도착한_리액션은_방을_되살리지_않는다() {
+        leaderboard.onVisibilityChanged(new ChatRoomVisibilityChangedEvent(1L, "title", false, 3, 5));
+        leaderboard.onReactionChanged(new ChatReactionChangedEvent(1L, 3, 0, true, 4));
+
+        assertThat(leaderboard.top(10)).isEmpty();
+    }
+
+    @Test
+    void 재구성보다_이전_버전의_이벤트는_무시한다() {
+        when(chatRoomRepository.findLikedPublicChatRooms()).thenReturn(List.of(new RoomLikeCount(1L, 10, 7)));
+
+        leaderboard.rebuild();
+        leaderboard.onReactionChanged(new ChatReactionChangedEvent(1L, 9, 0, true, 7));
+
+        assertThat(leaderboard.top(10)).containsExactly(1L);
+        leaderboard.onReactionChanged(new ChatReactionChangedEvent(1L, 0, 0, true, 8));
+        assertThat(leaderboard.top(10)).isEmpty();
+    }
+
+    @Test
+    void 재구성과_갱신이_동시에_일어나도_최신_카운터가_남는다() throws Exception {
+        // LIKE 수와 리액션 버전이 함께 1씩 증가하는 상황
+        AtomicInteger likeCnt = new AtomicInteger();
+        when(chatRoomRepository.findLikedPublicChatRooms()).thenAnswer(invocation -> {
+            int current = likeCnt.get();
+            return List.of(new RoomLikeCount(1L, current, current), new RoomLikeCount(2L, 1_000, 1));
+        });
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            Future<?> rebuilds = executor.submit(() -> {
+                for (int i = 0; i < 500; i++) {
+                    leaderboard.rebuild();
+                }
+            });
+            for (int i = 0; i < 2_000; i++) {
+                int next = likeCnt.incrementAndGet();
+                executor.submit(() -> leaderboard.onReactionChanged(
+                        new ChatReactionChangedEvent(1L, next, 0, true, next)));
+            }
+            rebuilds.get(1, TimeUnit.MINUTES);
+        }
+
+        // 마지막 버전의 2000이 남아야 함 (중간 값으로 되돌아가면 2번 방이 1위)
+        assertThat(leaderboard.top(10)).containsExactly(1L, 2L);
+    }
+}
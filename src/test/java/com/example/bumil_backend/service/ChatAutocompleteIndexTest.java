@@ -0,0 +1,93 @@
+package com.example.bumil_backend.service;
+
+import com.example.bumil_backend.dto.chat.response.PublicChatListResponse;
+import com.example.bumil_backend.enums.ChatTags;
+import com.example.bumil_backend.event.ChatRoomVisibilityChangedEvent;
+import com.example.bumil_backend.repository.ChatRoomRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ChatAutocompleteIndexTest {
+
+    private final ChatRoomRepository chatRoomRepository = mock(ChatRoomRepository.class);
+    private final ChatAutocompleteIndex index = new ChatAutocompleteIndex(chatRoomRepository, 100, 3, 10, 5);
+
+    @Test
+    void 접두어로_시작하는_제목을_가중치_순으로_완성한다() {
+        when(chatRoomRepository.findAllPublicChatTitles()).thenReturn(List.of(
+                chat(1L, "기숙사 점호"), chat(2L, "기숙사 식단"), chat(3L, "기숙사 식단"), chat(4L, "급식 메뉴")));
+        index.rebuild();
+
+        assertThat(index.complete("기숙", 10)).containsExactly("기숙사 식단", "기숙사 점호");
+        assertThat(index.complete("급", 10)).containsExactly("급식 메뉴");
+        assertThat(index.complete("없음", 10)).isEmpty();
+    }
+
+    @Test
+    void 비공개로_바뀐_제목은_빠진다() {
+        index.onVisibilityChanged(new ChatRoomVisibilityChangedEvent(1L, "기숙사 점호", true, 0, 0));
+        index.onVisibilityChanged(new ChatRoomVisibilityChangedEvent(1L, "기숙사 점호", false, 0, 0));
+
+        assertThat(index.complete("기숙", 10)).isEmpty();
+    }
+
+    @Test
+    void 검색_횟수는_flush_전까지_반영되지_않는다() {
+        index.onVisibilityChanged(new ChatRoomVisibilityChangedEvent(1L, "기숙사 점호", true, 0, 0));
+        index.onVisibilityChanged(new ChatRoomVisibilityChangedEvent(2L, "기숙사 식단", true, 0, 0));
+
+        index.recordQuery("기숙사 점호");
+        index.recordQuery("기숙사 점호");
+        assertThat(index.complete("기숙", 10)).containsExactly("기숙사 식단", "기숙사 점호");
+
+        index.flushQueries();
+        assertThat(index.complete("기숙", 10)).containsExactly("기숙사 점호", "기숙사 식단");
+    }
+
+    @Test
+    void 검색_가중치는_상한에서_멈춘다() {
+        for (int i = 0; i < 3; i++) {
+            index.onVisibilityChanged(new ChatRoomVisibilityChangedEvent((long) i, "기숙사 점호", true, 0, 0));
+        }
+        for (int i = 0; i < 1_000; i++) {
+            index.recordQuery("기숙사 식단");
+        }
+        index.flushQueries();
+        for (int i = 0; i < 1_000; i++) {
+            index.recordQuery("기숙사 식단");
+        }
+        index.flushQueries();
+
+        // 식단은 검색 가중치 상한 5, 점호는 제목 3개 + 검색 3회 = 6
+        for (int i = 0; i < 3; i++) {
+            index.recordQuery("기숙사 점호");
+        }
+        index.flushQueries();
+
+        assertThat(index.complete("기숙", 10)).containsExactly("기숙사 점호", "기숙사 식단");
+    }
+
+    @Test
+    void 모으는_검색어_수는_상한을_넘지_않는다() {
+        for (int i = 0; i < 50; i++) {
+            index.recordQuery("검색어" + i);
+        }
+        index.flushQueries();
+
+        int completed = 0;
+        for (int i = 0; i < 50; i++) {
+            completed += index.complete("검색어" + i, 1).size();
+        }
+        assertThat(completed).isEqualTo(10);
+    }
+
+    private PublicChatListResponse chat(Long id, String title) {
+        return new PublicChatListResponse(id, title, ChatTags.IN_PROGRESS, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.bumil_backend.service;
+
+import com.example.bumil_backend.config.StompWireFormat;
+import com.example.bumil_backend.dto.message.ChatMessageDto;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.converter.JacksonJsonMessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.messaging.StompSubProtocolHandler;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+// 브로드캐스트 1건당 할당 바이트 (구독자 1 / 50 / 500)
+// 기존 convertAndSend(DTO) 경로와 ChatBroadcaster(JSON 1회 직렬화, 방별 경로 재사용) 비교
+// 브로커 fan-out -> clientOutbound(StompWireFormat) -> 세션별 STOMP 프레임 인코딩까지 모두 호출 스레드에서 동기 실행
+// ./gradlew benchmark --tests '*ChatBroadcasterAllocationBenchmarkTest' [-Dbenchmark.broadcast.iterations=20000]
+@Tag("benchmark")
+class ChatBroadcasterAllocationBenchmarkTest {
+
+    private static final int ITERATIONS = Integer.getInteger("benchmark.broadcast.iterations", 20_000);
+    private static final int WARMUP = ITERATIONS / 4;
+    private static final long CHAT_ROOM_ID = 1L;
+
+    private final com.sun.management.ThreadMXBean threadMXBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private final ObjectMapper objectMapper = JsonMapper.builder().build();
+
+    @ParameterizedTest(name = "구독자 {0}명")
+    @ValueSource(ints = {1, 50, 500})
+    void 브로드캐스트당_할당_바이트를_측정한다(int subscribers) {
+        Fixture fixture = new Fixture(subscribers);
+        ChatMessageDto message = message();
+
+        SimpMessagingTemplate legacyTemplate = new SimpMessagingTemplate(fixture.brokerChannel);
+        legacyTemplate.setMessageConverter(new JacksonJsonMessageConverter(objectMapper));
+        ChatBroadcaster chatBroadcaster = new ChatBroadcaster(
+                new SimpMessagingTemplate(fixture.brokerChannel), objectMapper, new StompWireFormat(true, objectMapper));
+
+        long legacy = measure(fixture, () -> legacyTemplate.convertAndSend("/sub/chat/room/" + CHAT_ROOM_ID, message));
+        long serializeOnce = measure(fixture, () -> chatBroadcaster.broadcast(CHAT_ROOM_ID, message));
+
+        System.out.printf("subscribers=%d bytes/broadcast: convertAndSend=%d serialize-once=%d (%.0f%%), per subscriber: %d / %d%n",
+                subscribers, legacy, serializeOnce, 100.0 * serializeOnce / legacy,
+                legacy / subscribers, serializeOnce / subscribers);
+
+        fixture.broker.stop();
+    }
+
+    private long measure(Fixture fixture, Runnable broadcast) {
+        for (int i = 0; i < WARMUP; i++) {
+            broadcast.run();
+        }
+
+        fixture.delivered = 0;
+        long before = threadMXBean.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < ITERATIONS; i++) {
+            broadcast.run();
+        }
+        long allocated = threadMXBean.getCurrentThreadAllocatedBytes() - before;
+
+        // 모든 구독 세션에 프레임이 전달됐는지 확인
+        assertThat(fixture.delivered).isEqualTo((long) ITERATIONS * fixture.sessions.size());
+        return allocated / ITERATIONS;
+    }
+
+    private ChatMessageDto message() {
+        return ChatMessageDto.builder()
+                .messageId(1_234_567_890_123_456_789L)
+                .seq(42L)
+                .message("오늘 저녁 식단 뭐예요?")
+                .isDeleted(false)
+                .sender(7L)
+                .senderName("홍길동")
+                .createdAt(LocalDateTime.of(2025, 3, 1, 12, 30, 15))
+                .build();
+    }
+
+    // 동기 채널로 연결한 브로커와 구독 세션 (세션 전송은 아무것도 하지 않는 stub)
+    private static final class Fixture {
+        private final ExecutorSubscribableChannel brokerChannel = new ExecutorSubscribableChannel();
+        private final ExecutorSubscribableChannel clientOutboundChannel = new ExecutorSubscribableChannel();
+        private final SimpleBrokerMessageHandler broker;
+        private final Map<String, WebSocketSession> sessions = new HashMap<>();
+        private final StompSubProtocolHandler protocolHandler = new StompSubProtocolHandler();
+        private long delivered;
+
+        private Fixture(int subscribers) {
+            ObjectMapper objectMapper = JsonMapper.builder().build();
+            clientOutboundChannel.addInterceptor(new StompWireFormat(true, objectMapper));
+            clientOutboundChannel.subscribe(deliverToSession());
+
+            broker = new SimpleBrokerMessageHandler(
+                    new ExecutorSubscribableChannel(), clientOutboundChannel, brokerChannel, List.of("/sub"));
+            broker.start();
+
+            for (int i = 0; i < subscribers; i++) {
+                String sessionId = "session-" + i;
+                sessions.put(sessionId, mock(WebSocketSession.class, withSettings().stubOnly()));
+                broker.handleMessage(frame(SimpMessageType.CONNECT, sessionId, null));
+                broker.handleMessage(frame(SimpMessageType.SUBSCRIBE, sessionId, "/sub/chat/room/" + CHAT_ROOM_ID));
+            }
+        }
+
+        private MessageHandler deliverToSession() {
+            return message -> {
+                if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) != SimpMessageType.MESSAGE) {
+                    return;
+                }
+                WebSocketSession session = sessions.get(SimpMessageHeaderAccessor.getSessionId(message.getHeaders()));
+                protocolHandler.handleMessageToClient(session, message);
+                delivered++;
+            };
+        }
+
+        private static Message<byte[]> frame(SimpMessageType type, String sessionId, String destination) {
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(type);
+            accessor.setSessionId(sessionId);
+            if (type == SimpMessageType.CONNECT) {
+                accessor.setHeader(SimpMessageHeaderAccessor.HEART_BEAT_HEADER, new long[]{0, 0});
+            }
+            if (destination != null) {
+                accessor.setSubscriptionId("sub-" + sessionId);
+                accessor.setDestination(destination);
+            }
+            return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.bumil_backend.service;
+
+import com.example.bumil_backend.dto.chat.cursor.ChatListCursor;
+import com.example.bumil_backend.dto.chat.response.ChatListPageResponse;
+import com.example.bumil_backend.dto.chat.response.ChatListResponse;
+import com.example.bumil_backend.enums.ChatTags;
+import com.example.bumil_backend.event.ChatReactionChangedEvent;
+import com.example.bumil_backend.event.ChatRoomCreatedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChatListCacheTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    private final ChatListCache cache = new ChatListCache(100, 60);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void 같은_페이지는_한_번만_조회한다() {
+        load(ChatListCursor.first(false), 3L, 2L, 1L);
+        load(ChatListCursor.first(false), 3L, 2L, 1L);
+
+        assertThat(loads).hasValue(1);
+        assertThat(cache.getStats().getHits()).isEqualTo(1);
+    }
+
+    @Test
+    void 만료된_페이지는_다시_조회한다() {
+        // 다른 노드의 변경은 이벤트로 오지 않으므로 ttl이 지나면 다시 조회
+        ChatListCache expiring = new ChatListCache(100, 0);
+        for (int i = 0; i < 2; i++) {
+            expiring.getOrLoad(false, null, ChatListCursor.first(false), 1, () -> {
+                loads.incrementAndGet();
+                return page(1L);
+            });
+        }
+
+        assertThat(loads).hasValue(2);
+        assertThat(expiring.getStats().getHits()).isZero();
+    }
+
+    @Test
+    void 리액션_변경은_그_방이_들어_있는_페이지만_무효화한다() {
+        ChatListCursor second = new ChatListCursor(BASE.plusMinutes(4), 4L);
+        load(ChatListCursor.first(false), 6L, 5L, 4L);
+        load(second, 3L, 2L, 1L);
+
+        cache.onReactionChanged(new ChatReactionChangedEvent(2L, 1, 0, true, 1));
+
+        load(ChatListCursor.first(false), 6L, 5L, 4L);
+        load(second, 3L, 2L, 1L);
+
+        // 첫 페이지는 그대로, 2번 방이 있는 두 번째 페이지만 다시 조회
+        assertThat(loads).hasValue(3);
+        assertThat(cache.getStats().getInvalidations()).isEqualTo(1);
+    }
+
+    @Test
+    void 조회_중_무효화된_방이_있으면_결과를_캐시하지_않는다() {
+        cache.getOrLoad(false, null, ChatListCursor.first(false), 3, () -> {
+            ChatListPageResponse page = page(3L, 2L, 1L);
+            // 조회가 끝나기 전에 커밋된 리액션
+            cache.onReactionChanged(new ChatReactionChangedEvent(2L, 1, 0, true, 1));
+            return page;
+        });
+
+        assertThat(cache.getStats().getSize()).isZero();
+    }
+
+    @Test
+    void 조회_중_다른_방의_변경은_캐시에_영향을_주지_않는다() {
+        cache.getOrLoad(false, null, ChatListCursor.first(false), 3, () -> {
+            ChatListPageResponse page = page(3L, 2L, 1L);
+            cache.onReactionChanged(new ChatReactionChangedEvent(99L, 1, 0, true, 1));
+            return page;
+        });
+
+        assertThat(cache.getStats().getSize()).isEqualTo(1);
+    }
+
+    @Test
+    void 새_채팅방은_범위에_포함되는_페이지만_무효화한다() {
+        load(ChatListCursor.first(false), 6L, 5L, 4L);
+        load(new ChatListCursor(BASE.plusMinutes(4), 4L), 3L, 2L, 1L);
+
+        cache.onChatRoomCreated(new ChatRoomCreatedEvent(7L, BASE.plusMinutes(7), ChatTags.IN_PROGRESS));
+
+        assertThat(cache.getStats().getSize()).isEqualTo(1);
+        assertThat(cache.getStats().getInvalidations()).isEqualTo(1);
+    }
+
+    @Test
+    void 최대_크기를_넘으면_오래_쓰이지_않은_페이지부터_제거한다() {
+        ChatListCursor hot = new ChatListCursor(BASE, 0L);
+        load(hot, 1L);
+
+        for (long i = 1; i <= 300; i++) {
+            load(hot, 1L);
+            load(new ChatListCursor(BASE.plusMinutes(i), i), i + 1_000);
+        }
+
+        assertThat(cache.getStats().getSize()).isLessThanOrEqualTo(100);
+        assertThat(cache.getStats().getEvictions()).isPositive();
+
+        int before = loads.get();
+        load(hot, 1L);
+        assertThat(loads).hasValue(before);
+    }
+
+    private void load(ChatListCursor cursor, Long... roomIds) {
+        cache.getOrLoad(false, null, cursor, roomIds.length, () -> {
+            loads.incrementAndGet();
+            return page(roomIds);
+        });
+    }
+
+    // 방 id가 클수록 최신 (createdAt = BASE + id분)
+    private ChatListPageResponse page(Long... roomIds) {
+        return ChatListPageResponse.builder()
+                .items(Arrays.stream(roomIds)
+                        .map(id -> new ChatListResponse(id, 0, 0, "title", ChatTags.IN_PROGRESS, "author",
+                                BASE.plusMinutes(id)))
+                        .toList())
+                .hasNext(true)
+                .build();
+    }
+}
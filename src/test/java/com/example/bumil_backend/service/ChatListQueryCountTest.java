@@ -0,0 +1,108 @@
+package com.example.bumil_backend.service;
+
+import com.example.bumil_backend.dto.chat.response.ChatListPageResponse;
+import com.example.bumil_backend.entity.Users;
+import com.example.bumil_backend.repository.ChatRoomRepository;
+import com.example.bumil_backend.repository.UserRepository;
+import com.example.bumil_backend.support.ChatTestFixture;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 공개 채팅 목록은 목록 크기와 관계없이 같은 수의 SQL만 실행해야 함 (작성자/리액션 지연 로딩으로 인한 N+1 없음)
+@Tag("integration")
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class ChatListQueryCountTest {
+
+    private static final int AUTHORS = 10;
+    private static final int ROOMS = 60;
+
+    @Autowired
+    private ChatService chatService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ChatRoomRepository chatRoomRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private ChatTestFixture fixture;
+    private final List<Users> authors = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        fixture = new ChatTestFixture(userRepository, chatRoomRepository, jdbcTemplate);
+        for (int i = 0; i < AUTHORS; i++) {
+            authors.add(fixture.createUser("list"));
+        }
+        for (int i = 0; i < ROOMS; i++) {
+            fixture.createPublicRoom(authors.get(i % AUTHORS), "list-" + fixture.run() + "-" + i);
+        }
+
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(authors.get(0).getEmail(), null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        fixture.cleanUp();
+    }
+
+    @Test
+    void 목록_크기와_관계없이_실행되는_SQL_수가_같다() {
+        // 베스트 채팅 등 최초 1회만 필요한 로딩은 측정에서 제외
+        chatService.getPublicChatList(null, null, null, 1);
+
+        // 페이지 크기마다 캐시 키가 달라 두 호출 모두 DB에서 읽음
+        long small = countStatements(() -> assertThat(
+                chatService.getPublicChatList(null, null, null, 5).getItems()).hasSize(5));
+        long large = countStatements(() -> assertThat(
+                chatService.getPublicChatList(null, null, null, 50).getItems()).hasSize(50));
+
+        // 목록 조회 1 + 내 리액션 1 (작성자/리액션 지연 로딩 없음)
+        assertThat(small).isEqualTo(2);
+        assertThat(large).isEqualTo(small);
+    }
+
+    @Test
+    void 다음_페이지도_같은_수의_SQL로_조회한다() {
+        chatService.getPublicChatList(null, null, null, 1);
+
+        ChatListPageResponse[] first = new ChatListPageResponse[1];
+        long firstPage = countStatements(() -> first[0] = chatService.getPublicChatList(null, null, null, 7));
+        assertThat(first[0].isHasNext()).isTrue();
+
+        long nextPage = countStatements(() -> assertThat(
+                chatService.getPublicChatList(null, null, first[0].getNext(), 7).getItems()).hasSize(7));
+
+        assertThat(nextPage).isEqualTo(firstPage);
+    }
+
+    private long countStatements(Runnable call) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        call.run();
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.bumil_backend.service;
+
+import com.example.bumil_backend.dto.chat.reaction.ReactionCount;
+import com.example.bumil_backend.dto.chat.request.ChatReactionRequest;
+import com.example.bumil_backend.entity.ChatRoom;
+import com.example.bumil_backend.entity.Users;
+import com.example.bumil_backend.enums.ReactionType;
+import com.example.bumil_backend.repository.ChatRoomRepository;
+import com.example.bumil_backend.repository.UserRepository;
+import com.example.bumil_backend.support.ChatTestFixture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 리액션 토글 동시성: 수천 건을 병렬로 토글해도 예외(교착/재시도 실패) 없이 카운터와 리액션 행이 일치해야 함
+@Tag("integration")
+@SpringBootTest
+class ChatReactionConcurrencyTest {
+
+    private static final int USERS = 50;
+    private static final int TOGGLES_PER_USER = 40;
+    // 한 사용자가 같은 방을 연타하는 경우 (같은 행 경합)
+    private static final int HOT_USER_TOGGLES = 1_000;
+
+    @Autowired
+    private ChatService chatService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ChatRoomRepository chatRoomRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private ChatTestFixture fixture;
+    private final List<Users> users = new ArrayList<>();
+    private ChatRoom chatRoom;
+
+    @BeforeEach
+    void setUp() {
+        fixture = new ChatTestFixture(userRepository, chatRoomRepository, jdbcTemplate);
+        for (int i = 0; i < USERS; i++) {
+            users.add(fixture.createUser("reaction"));
+        }
+        chatRoom = fixture.createPublicRoom(users.get(0), "reaction-" + fixture.run());
+    }
+
+    @AfterEach
+    void tearDown() {
+        fixture.cleanUp();
+    }
+
+    @Test
+    void 병렬_토글_후_카운터가_리액션_행과_일치한다() throws Exception {
+        ConcurrentLinkedQueue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        List<Future<?>> futures = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(32)) {
+            for (Users user : users) {
+                for (int i = 0; i < TOGGLES_PER_USER; i++) {
+                    futures.add(executor.submit(() -> toggle(user, randomReaction(), failures)));
+                }
+            }
+            Users hotUser = users.get(0);
+            for (int i = 0; i < HOT_USER_TOGGLES; i++) {
+                futures.add(executor.submit(() -> toggle(hotUser, randomReaction(), failures)));
+            }
+
+            for (Future<?> future : futures) {
+                future.get(2, TimeUnit.MINUTES);
+            }
+        }
+
+        assertThat(failures).isEmpty();
+
+        ReactionCount counters = chatRoomRepository.findReactionCountById(chatRoom.getId()).orElseThrow();
+        assertThat(counters.getLikeCnt()).isEqualTo(countRows("LIKE"));
+        assertThat(counters.getDislikeCnt()).isEqualTo(countRows("DISLIKE"));
+        // 해제하면 행이 삭제되므로 남은 행은 모두 LIKE/DISLIKE, 사용자당 최대 하나
+        assertThat(countRows(null)).isEqualTo(counters.getLikeCnt() + counters.getDislikeCnt());
+        assertThat(countRows(null)).isLessThanOrEqualTo(USERS);
+    }
+
+    private void toggle(Users user, ReactionType reactionType, ConcurrentLinkedQueue<Throwable> failures) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user.getEmail(), null, List.of()));
+        try {
+            chatService.reaction(objectMapper.readValue(
+                    "{\"chatRoomId\":" + chatRoom.getId() + ",\"reactionType\":\"" + reactionType + "\"}",
+                    ChatReactionRequest.class));
+        } catch (Throwable e) {
+            failures.add(e);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    private int countRows(String reactionType) {
+        Integer count = (reactionType == null)
+                ? jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM chat_room_reactions WHERE chat_room_id = ?", Integer.class, chatRoom.getId())
+                : jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM chat_room_reactions WHERE chat_room_id = ? AND reaction_type = ?",
+                Integer.class, chatRoom.getId(), reactionType);
+        return count == null ? 0 : count;
+    }
+
+    private ReactionType randomReaction() {
+        return ThreadLocalRandom.current().nextBoolean() ? ReactionType.LIKE : ReactionType.DISLIKE;
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.bumil_backend.service;
+
+import com.example.bumil_backend.common.exception.NotAcceptableUserException;
+import com.example.bumil_backend.enums.Role;
+import com.example.bumil_backend.event.ChatRoomDeletedEvent;
+import com.example.bumil_backend.event.UserAccessChangedEvent;
+import com.example.bumil_backend.repository.ChatRoomRepository;
+import com.example.bumil_backend.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ChatRoomAccessCacheTest {
+
+    private final ChatRoomRepository chatRoomRepository = mock(ChatRoomRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+
+    @Test
+    void 같은_판단은_한_번만_조회한다() {
+        ChatRoomAccessCache cache = new ChatRoomAccessCache(chatRoomRepository, userRepository, 100, 60);
+        givenRoom(1L, 10L, Role.USER);
+
+        cache.checkAccess(10L, 1L);
+        cache.checkAccess(10L, 1L);
+
+        verify(chatRoomRepository, times(1)).findAuthorIdByIdAndIsDeletedFalse(1L);
+    }
+
+    @Test
+    void 만료된_판단은_다시_조회한다() {
+        // 다른 노드에서 바뀐 권한도 ttl이 지나면 반영
+        ChatRoomAccessCache cache = new ChatRoomAccessCache(chatRoomRepository, userRepository, 100, 0);
+        givenRoom(1L, 10L, Role.USER);
+
+        cache.checkAccess(10L, 1L);
+        cache.checkAccess(10L, 1L);
+
+        verify(chatRoomRepository, times(2)).findAuthorIdByIdAndIsDeletedFalse(1L);
+    }
+
+    @Test
+    void 무효화된_사용자는_다시_조회해_거부한다() {
+        ChatRoomAccessCache cache = new ChatRoomAccessCache(chatRoomRepository, userRepository, 100, 60);
+        givenRoom(1L, 20L, Role.USER);
+        when(userRepository.findRoleByIdAndIsDeletedFalse(10L)).thenReturn(Optional.of(Role.ADMIN));
+        cache.checkAccess(10L, 1L);
+
+        when(userRepository.findRoleByIdAndIsDeletedFalse(10L)).thenReturn(Optional.of(Role.USER));
+        cache.onUserAccessChanged(new UserAccessChangedEvent(10L));
+
+        assertThatThrownBy(() -> cache.checkAccess(10L, 1L)).isInstanceOf(NotAcceptableUserException.class);
+    }
+
+    @Test
+    void 삭제된_방의_판단은_모든_구간에서_제거한다() {
+        ChatRoomAccessCache cache = new ChatRoomAccessCache(chatRoomRepository, userRepository, 100, 60);
+        givenRoom(1L, 10L, Role.USER);
+        for (long userId = 10; userId < 20; userId++) {
+            when(userRepository.findRoleByIdAndIsDeletedFalse(userId)).thenReturn(Optional.of(Role.ADMIN));
+            cache.checkAccess(userId, 1L);
+        }
+
+        cache.onChatRoomDeleted(new ChatRoomDeletedEvent(1L));
+        for (long userId = 10; userId < 20; userId++) {
+            cache.checkAccess(userId, 1L);
+        }
+
+        verify(chatRoomRepository, times(20)).findAuthorIdByIdAndIsDeletedFalse(1L);
+    }
+
+    private void givenRoom(Long chatRoomId, Long authorId, Role role) {
+        when(chatRoomRepository.findAuthorIdByIdAndIsDeletedFalse(chatRoomId)).thenReturn(Optional.of(authorId));
+        when(userRepository.findRoleByIdAndIsDeletedFalse(authorId)).thenReturn(Optional.of(role));
+    }
+}
@@ -0,0 +1,192 @@
+package com.example.bumil_backend.service;
+
+import com.example.bumil_backend.entity.Users;
+import com.example.bumil_backend.repository.ChatRoomRepository;
+import com.example.bumil_backend.repository.UserRepository;
+import com.example.bumil_backend.support.ChatTestFixture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 채팅방 수별 제목 검색 비교: 기존 LIKE '%keyword%' 쿼리 vs 메모리 bigram 색인
+// 같은 DB의 같은 채팅방으로 첫 페이지(PAGE_SIZE개)를 찾는 지연과 색인 구성 시간/힙 사용량 측정
+// ./gradlew benchmark --tests '*ChatTitleSearchIndexBenchmarkTest' [-Dbenchmark.search.queries=10000 -Dbenchmark.search.like-queries=100]
+// 측정용 채팅방을 설정된 DB에 넣고 끝나면 지우므로 전용 DB로 실행, 1M은 힙(maxHeapSize)과 시간이 충분해야 함
+@Tag("benchmark")
+@SpringBootTest
+class ChatTitleSearchIndexBenchmarkTest {
+
+    private static final int QUERIES = Integer.getInteger("benchmark.search.queries", 10_000);
+    // LIKE는 전체 스캔이라 1M에서 쿼리당 수백 ms가 걸릴 수 있어 횟수를 따로 지정
+    private static final int LIKE_QUERIES = Integer.getInteger("benchmark.search.like-queries", 100);
+    private static final int PAGE_SIZE = 20;
+    private static final int INSERT_BATCH = 5_000;
+
+    // 색인 도입 전 ChatRoomRepository.searchPublicChatsByTitle 와 같은 조건 (첫 페이지만 조회하도록 LIMIT 추가)
+    private static final String LIKE_QUERY = """
+            SELECT id FROM chat_rooms
+            WHERE is_public = true
+            AND is_deleted = false
+            AND LOWER(title) LIKE LOWER(CONCAT('%', ?, '%'))
+            ORDER BY created_at DESC
+            LIMIT ?
+            """;
+
+    private static final String[] WORDS = {
+            "기숙사", "식단", "점호", "외출", "공지", "세탁기", "분실물", "택배", "급식", "메뉴",
+            "동아리", "시간표", "과제", "시험", "축제", "체육대회", "방과후", "도서관", "매점", "버스"
+    };
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ChatRoomRepository chatRoomRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private ChatTestFixture fixture;
+    private Users author;
+
+    @BeforeEach
+    void setUp() {
+        fixture = new ChatTestFixture(userRepository, chatRoomRepository, jdbcTemplate);
+        author = fixture.createUser("search");
+    }
+
+    @AfterEach
+    void tearDown() {
+        // 대량으로 넣은 채팅방은 작성자 기준으로 나눠서 삭제
+        while (jdbcTemplate.update("DELETE FROM chat_rooms WHERE user_id = ? LIMIT ?", author.getId(), INSERT_BATCH) > 0) {
+            // 반복
+        }
+        fixture.cleanUp();
+    }
+
+    @ParameterizedTest(name = "채팅방 {0}개")
+    @ValueSource(ints = {10_000, 100_000, 1_000_000})
+    void LIKE_쿼리와_색인의_검색_지연을_비교한다(int chatCount) {
+        SplittableRandom random = new SplittableRandom(chatCount);
+        insertChatRooms(chatCount, random);
+
+        ChatTitleSearchIndex index = new ChatTitleSearchIndex(chatRoomRepository);
+        long heapBefore = usedHeap();
+        long buildStart = System.nanoTime();
+        index.rebuild();
+        long buildMillis = (System.nanoTime() - buildStart) / 1_000_000;
+        long heapMegabytes = (usedHeap() - heapBefore) / (1024 * 1024);
+
+        Latency indexLatency = measure(QUERIES, random, query -> index.search(query, PAGE_SIZE).size());
+        Latency likeLatency = measure(LIKE_QUERIES, random, query -> jdbcTemplate.queryForList(
+                LIKE_QUERY, Long.class, query, PAGE_SIZE).size());
+
+        System.out.printf("chats=%d build=%dms heap=%dMB%n", chatCount, buildMillis, heapMegabytes);
+        System.out.printf("  like  queries=%d p50=%dus p99=%dus max=%dus%n",
+                LIKE_QUERIES, likeLatency.p50Micros(), likeLatency.p99Micros(), likeLatency.maxMicros());
+        System.out.printf("  index queries=%d p50=%dus p99=%dus max=%dus%n",
+                QUERIES, indexLatency.p50Micros(), indexLatency.p99Micros(), indexLatency.maxMicros());
+
+        assertThat(indexLatency.matches()).isPositive();
+        assertThat(likeLatency.matches()).isPositive();
+
+        // 같은 검색어면 같은 채팅방 집합을 찾아야 함 (순서는 관련도/최신 순으로 다름)
+        String query = WORDS[0];
+        assertThat(index.search(query, Integer.MAX_VALUE)).hasSameSizeAs(jdbcTemplate.queryForList(
+                LIKE_QUERY, Long.class, query, Integer.MAX_VALUE));
+    }
+
+    private void insertChatRooms(int chatCount, SplittableRandom random) {
+        LocalDateTime base = LocalDateTime.now().minusDays(1);
+        for (int start = 0; start < chatCount; start += INSERT_BATCH) {
+            int rows = Math.min(INSERT_BATCH, chatCount - start);
+            String sql = "INSERT INTO chat_rooms (tag, title, is_anonymous, is_public, is_deleted, like_cnt, dislike_cnt, "
+                    + "created_at, updated_at, user_id) VALUES "
+                    + String.join(", ", Collections.nCopies(rows, "('IN_PROGRESS', ?, false, true, false, 0, 0, ?, ?, ?)"));
+
+            List<Object> args = new ArrayList<>(rows * 4);
+            for (int i = 0; i < rows; i++) {
+                Timestamp createdAt = Timestamp.valueOf(base.plusSeconds(start + i));
+                args.add(title(random));
+                args.add(createdAt);
+                args.add(createdAt);
+                args.add(author.getId());
+            }
+            jdbcTemplate.update(sql, args.toArray());
+        }
+    }
+
+    private Latency measure(int queries, SplittableRandom random, Function<String, Integer> search) {
+        // 워밍업
+        for (int i = 0; i < Math.max(1, queries / 10); i++) {
+            search.apply(query(random));
+        }
+
+        long[] latencies = new long[queries];
+        long matches = 0;
+        for (int i = 0; i < queries; i++) {
+            String query = query(random);
+            long start = System.nanoTime();
+            matches += search.apply(query);
+            latencies[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(latencies);
+        return new Latency(matches, latencies);
+    }
+
+    private String title(SplittableRandom random) {
+        int words = 2 + random.nextInt(3);
+        StringBuilder title = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                title.append(' ');
+            }
+            title.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return title.append(' ').append(random.nextInt(1_000)).toString();
+    }
+
+    // 단어 일부 (1~3글자) 검색
+    private String query(SplittableRandom random) {
+        String word = WORDS[random.nextInt(WORDS.length)];
+        int length = 1 + random.nextInt(Math.min(3, word.length()));
+        int start = random.nextInt(word.length() - length + 1);
+        return word.substring(start, start + length);
+    }
+
+    private long usedHeap() {
+        System.gc();
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private record Latency(long matches, long[] sorted) {
+        long p50Micros() {
+            return sorted[sorted.length / 2] / 1_000;
+        }
+
+        long p99Micros() {
+            return sorted[Math.min(sorted.length - 1, (int) (sorted.length * 0.99))] / 1_000;
+        }
+
+        long maxMicros() {
+            return sorted[sorted.length - 1] / 1_000;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.bumil_backend.service;
+
+import com.example.bumil_backend.dto.chat.response.PublicChatListResponse;
+import com.example.bumil_backend.enums.ChatTags;
+import com.example.bumil_backend.event.ChatRoomVisibilityChangedEvent;
+import com.example.bumil_backend.repository.ChatRoomRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ChatTitleSearchIndexTest {
+
+    private static final int ALL = Integer.MAX_VALUE;
+
+    private final ChatRoomRepository chatRoomRepository = mock(ChatRoomRepository.class);
+    private final ChatTitleSearchIndex index = new ChatTitleSearchIndex(chatRoomRepository);
+
+    @Test
+    void 부분_문자열을_관련도_순으로_찾는다() {
+        when(chatRoomRepository.findAllPublicChatTitles()).thenReturn(List.of(
+                chat(1L, "기숙사 식단 문의"), chat(2L, "식단"), chat(3L, "오늘 식단 공유"), chat(4L, "급식 메뉴")));
+        index.rebuild();
+
+        // 앞부분 일치 > 짧은 제목
+        assertThat(index.search("식단", ALL)).containsExactly(2L, 3L, 1L);
+        assertThat(index.search("식", ALL)).containsExactly(2L, 4L, 3L, 1L);
+        assertThat(index.search("식단 문의", ALL)).containsExactly(1L);
+        assertThat(index.search("식사", ALL)).isEmpty();
+    }
+
+    @Test
+    void 상위_limit개만_관련도_순으로_고른다() {
+        when(chatRoomRepository.findAllPublicChatTitles()).thenReturn(List.of(
+                chat(1L, "기숙사 식단 문의"), chat(2L, "식단"), chat(3L, "오늘 식단 공유"), chat(4L, "급식 메뉴")));
+        index.rebuild();
+
+        assertThat(index.search("식", 1)).containsExactly(2L);
+        assertThat(index.search("식", 3)).containsExactly(2L, 4L, 3L);
+        assertThat(index.search("식", 10)).containsExactly(2L, 4L, 3L, 1L);
+        assertThat(index.search("식", 0)).isEmpty();
+    }
+
+    @Test
+    void 비공개로_바뀐_방은_검색되지_않는다() {
+        visible(1L, "기숙사 식단", true);
+        visible(1L, "기숙사 식단", false);
+
+        assertThat(index.search("식단", ALL)).isEmpty();
+    }
+
+    @Test
+    void 같은_토큰을_동시에_추가하고_제거해도_공개된_방은_모두_검색된다() throws Exception {
+        List<Future<?>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(16)) {
+            for (long id = 1; id <= 2_000; id++) {
+                long chatRoomId = id;
+                futures.add(executor.submit(() -> {
+                    // 짝수 방은 마지막에 공개, 홀수 방은 비공개 (posting이 비었다 채워지기를 반복)
+                    visible(chatRoomId, "공지", true);
+                    visible(chatRoomId, "공지", false);
+                    if (chatRoomId % 2 == 0) {
+                        visible(chatRoomId, "공지", true);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+        }
+
+        assertThat(index.search("공지", ALL)).hasSize(1_000)
+                .allMatch(id -> id % 2 == 0);
+    }
+
+    @Test
+    void 재구성_중에도_이전_색인으로_검색하고_끝나면_교체된다() throws Exception {
+        when(chatRoomRepository.findAllPublicChatTitles()).thenReturn(List.of(chat(1L, "기존 공지")));
+        index.rebuild();
+
+        when(chatRoomRepository.findAllPublicChatTitles()).thenAnswer(invocation -> {
+            // DB 조회 중인 재구성 (검색은 기존 색인을 그대로 봄)
+            assertThat(index.search("공지", ALL)).containsExactly(1L);
+            return List.of(chat(2L, "새 공지"));
+        });
+        index.rebuild();
+
+        assertThat(index.search("공지", ALL)).containsExactly(2L);
+    }
+
+    private void visible(Long chatRoomId, String title, boolean visible) {
+        index.onVisibilityChanged(new ChatRoomVisibilityChangedEvent(chatRoomId, title, visible, 0, 0));
+    }
+
+    private PublicChatListResponse chat(Long id, String title) {
+        return new PublicChatListResponse(id, title, ChatTags.IN_PROGRESS, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.bumil_backend.service;
+
+import com.example.bumil_backend.common.id.SnowflakeIdGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReadCursorWriterTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final ReadCursorWriter writer =
+            new ReadCursorWriter(jdbcTemplate, mock(SnowflakeIdGenerator.class), 500);
+
+    @Test
+    void 읽음_위치가_앞으로_이동할_때만_true() {
+        assertThat(writer.record(1L, 1L, 10)).isTrue();
+        assertThat(writer.record(1L, 1L, 10)).isFalse();
+        assertThat(writer.record(1L, 1L, 5)).isFalse();
+        assertThat(writer.record(1L, 1L, 11)).isTrue();
+        assertThat(writer.pendingOf(1L)).containsEntry(1L, 11L);
+    }
+
+    @Test
+    void 저장한_뒤에도_이전_읽음_위치는_전진으로_보지_않는다() {
+        writer.record(1L, 1L, 10);
+        writer.flush();
+
+        assertThat(writer.pendingOf(1L)).isEmpty();
+        assertThat(writer.record(1L, 1L, 5)).isFalse();
+        assertThat(writer.record(1L, 1L, 10)).isFalse();
+        assertThat(writer.pendingOf(1L)).isEmpty();
+        assertThat(writer.record(1L, 1L, 11)).isTrue();
+    }
+
+    @Test
+    void 저장에_실패한_읽음_위치는_다음_주기에_다시_저장한다() {
+        when(jdbcTemplate.update(anyString(), any(PreparedStatementSetter.class)))
+                .thenThrow(new TransientDataAccessResourceException("connection lost"))
+                .thenReturn(1);
+        writer.record(1L, 1L, 10);
+
+        writer.flush();
+        assertThat(writer.pendingOf(1L)).containsEntry(1L, 10L);
+
+        writer.flush();
+        assertThat(writer.pendingOf(1L)).isEmpty();
+    }
+
+    @Test
+    void 같은_읽음_위치를_동시에_기록하면_한_번만_전진으로_판단한다() throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(16)) {
+            for (int i = 0; i < 16; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return writer.record(1L, 1L, 42);
+                }));
+            }
+            start.countDown();
+
+            int advanced = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get(1, TimeUnit.MINUTES)) {
+                    advanced++;
+                }
+            }
+            assertThat(advanced).isEqualTo(1);
+        }
+    }
+}
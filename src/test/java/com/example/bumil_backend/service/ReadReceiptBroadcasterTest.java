@@ -0,0 +1,84 @@
+package com.example.bumil_backend.service;
+
+import com.example.bumil_backend.dto.message.ReadReceipt;
+import com.example.bumil_backend.dto.message.ReadReceiptResponse;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReadReceiptBroadcasterTest {
+
+    private final ChatBroadcaster chatBroadcaster = mock(ChatBroadcaster.class);
+    private final ReadReceiptBroadcaster broadcaster = new ReadReceiptBroadcaster(chatBroadcaster);
+
+    @Test
+    void 주기_동안의_ack는_방마다_한_번만_전송한다() {
+        when(chatBroadcaster.destination(1L)).thenReturn("/sub/chat/room/1");
+
+        for (long userId = 1; userId <= 100; userId++) {
+            broadcaster.record(1L, userId, 10);
+            broadcaster.record(1L, userId, 20);
+            broadcaster.record(1L, userId, 15);
+        }
+        broadcaster.flush();
+
+        ArgumentCaptor<Object> payload = ArgumentCaptor.forClass(Object.class);
+        verify(chatBroadcaster, times(1)).send(eq("/sub/chat/room/1/read"), payload.capture());
+
+        ReadReceiptResponse response = (ReadReceiptResponse) payload.getValue();
+        assertThat(response.getReceipts()).hasSize(100)
+                .extracting(ReadReceipt::getLastReadSeq)
+                .containsOnly(20L);
+    }
+
+    @Test
+    void 바뀐_방이_없으면_전송하지_않는다() {
+        broadcaster.record(1L, 1L, 10);
+        broadcaster.flush();
+        broadcaster.flush();
+
+        verify(chatBroadcaster, times(1)).send(any(), any());
+    }
+
+    @Test
+    void flush_중에_들어온_ack도_유실되지_않는다() throws Exception {
+        when(chatBroadcaster.destination(1L)).thenReturn("/sub/chat/room/1");
+        List<ReadReceipt> sent = new ArrayList<>();
+        doAnswer(invocation -> {
+            sent.addAll(((ReadReceiptResponse) invocation.getArgument(1)).getReceipts());
+            return null;
+        }).when(chatBroadcaster).send(any(), any());
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (long userId = 1; userId <= 10_000; userId++) {
+                long id = userId;
+                futures.add(executor.submit(() -> broadcaster.record(1L, id, id)));
+            }
+            for (int i = 0; i < 100; i++) {
+                broadcaster.flush();
+            }
+            for (Future<?> future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+        }
+        broadcaster.flush();
+
+        assertThat(sent).extracting(ReadReceipt::getUserId).doesNotHaveDuplicates().hasSize(10_000);
+    }
+}
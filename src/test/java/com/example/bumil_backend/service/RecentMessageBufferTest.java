@@ -0,0 +1,141 @@
+package com.example.bumil_backend.service;
+
+import com.example.bumil_backend.dto.message.ChatMessageDto;
+import com.example.bumil_backend.event.ChatMessageWriteFailedEvent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RecentMessageBufferTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 3, 1, 12, 0, 0, 123_000_000);
+
+    private final ChatMessageSequencer chatMessageSequencer = mock(ChatMessageSequencer.class);
+
+    @ParameterizedTest(name = "off-heap={0}")
+    @ValueSource(booleans = {false, true})
+    void 첫_메시지부터_보관하면_전체_목록을_응답한다(boolean offHeap) {
+        RecentMessageBuffer buffer = buffer(100, offHeap, 131_072);
+
+        LongStream.rangeClosed(1, 10).forEach(seq -> buffer.append(1L, message(seq)));
+
+        assertThat(buffer.getAll(1L)).hasValueSatisfying(messages -> {
+            assertThat(messages).extracting(ChatMessageDto::getSeq).containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L);
+            assertThat(messages.get(0)).usingRecursiveComparison().isEqualTo(message(1));
+        });
+        assertThat(buffer.getSince(1L, 7, 100)).hasValueSatisfying(messages ->
+                assertThat(messages).extracting(ChatMessageDto::getSeq).containsExactly(8L, 9L, 10L));
+    }
+
+    @ParameterizedTest(name = "off-heap={0}")
+    @ValueSource(booleans = {false, true})
+    void 용량을_넘으면_오래된_메시지는_DB에서_조회한다(boolean offHeap) {
+        RecentMessageBuffer buffer = buffer(5, offHeap, 131_072);
+
+        LongStream.rangeClosed(1, 10).forEach(seq -> buffer.append(1L, message(seq)));
+
+        assertThat(buffer.getAll(1L)).isEmpty();
+        assertThat(buffer.getSince(1L, 2, 100)).isEmpty();
+        assertThat(buffer.getSince(1L, 5, 100)).hasValueSatisfying(messages ->
+                assertThat(messages).extracting(ChatMessageDto::getSeq).containsExactly(6L, 7L, 8L, 9L, 10L));
+        assertThat(buffer.getSince(1L, 5, 2)).hasValueSatisfying(messages ->
+                assertThat(messages).extracting(ChatMessageDto::getSeq).containsExactly(6L, 7L));
+    }
+
+    @Test
+    void off_heap_slab을_여러_번_돌아도_최근_메시지는_그대로_읽는다() {
+        // 메시지 수십 개 분량의 작은 slab
+        RecentMessageBuffer buffer = buffer(1_000, true, 2_048);
+
+        LongStream.rangeClosed(1, 1_000).forEach(seq -> buffer.append(1L, message(seq)));
+
+        List<ChatMessageDto> recent = buffer.getSince(1L, 990, 100).orElseThrow();
+        assertThat(recent).extracting(ChatMessageDto::getSeq)
+                .containsExactly(991L, 992L, 993L, 994L, 995L, 996L, 997L, 998L, 999L, 1_000L);
+        assertThat(recent.get(9)).usingRecursiveComparison().isEqualTo(message(1_000));
+        // 덮어쓴 영역의 메시지는 남아 있지 않음
+        assertThat(buffer.getSince(1L, 0, 100)).isEmpty();
+    }
+
+    @Test
+    void 지연_저장에_실패하면_방_버퍼를_비운다() {
+        RecentMessageBuffer buffer = buffer(100, false, 131_072);
+        LongStream.rangeClosed(1, 3).forEach(seq -> buffer.append(1L, message(seq)));
+
+        buffer.onChatMessageWriteFailed(new ChatMessageWriteFailedEvent(1L, 3L));
+
+        assertThat(buffer.getAll(1L)).isEmpty();
+        assertThat(buffer.getSince(1L, 0, 100)).isEmpty();
+    }
+
+    @Test
+    void 저장_대기_중인_메시지가_있으면_seed하지_않는다() {
+        RecentMessageBuffer buffer = buffer(100, false, 131_072);
+        when(chatMessageSequencer.lastIssued(1L)).thenReturn(OptionalLong.of(3));
+
+        buffer.seed(1L, List.of(message(1), message(2)));
+
+        assertThat(buffer.getAll(1L)).isEmpty();
+    }
+
+    @Test
+    void seed_이후_전송된_메시지는_이어_붙인다() {
+        RecentMessageBuffer buffer = buffer(100, false, 131_072);
+        when(chatMessageSequencer.lastIssued(1L)).thenReturn(OptionalLong.of(2));
+
+        buffer.seed(1L, List.of(message(2), message(1)));
+        buffer.append(1L, message(3));
+
+        assertThat(buffer.getAll(1L)).hasValueSatisfying(messages ->
+                assertThat(messages).extracting(ChatMessageDto::getSeq).containsExactly(1L, 2L, 3L));
+    }
+
+    @Test
+    void relay_모드에서는_사용하지_않는다() {
+        RecentMessageBuffer buffer = new RecentMessageBuffer(
+                chatMessageSequencer, 100, 1 << 20, 600, false, 131_072, true, "relay");
+
+        buffer.append(1L, message(1));
+
+        assertThat(buffer.getAll(1L)).isEmpty();
+    }
+
+    @Test
+    void 전체_메모리_상한을_넘으면_오래_쓰이지_않은_방부터_제거한다() {
+        // 방 하나의 slab(2KB)만 들어가는 상한
+        RecentMessageBuffer buffer = new RecentMessageBuffer(
+                chatMessageSequencer, 100, 3_000, 600, true, 2_048, true, "simple");
+
+        buffer.append(1L, message(1));
+        buffer.append(2L, message(1));
+
+        assertThat(buffer.getAll(1L)).isEmpty();
+        assertThat(buffer.getAll(2L)).isPresent();
+    }
+
+    private RecentMessageBuffer buffer(int capacity, boolean offHeap, int slabBytes) {
+        return new RecentMessageBuffer(
+                chatMessageSequencer, capacity, 64L << 20, 600, offHeap, slabBytes, true, "simple");
+    }
+
+    private ChatMessageDto message(long seq) {
+        return ChatMessageDto.builder()
+                .messageId(1_000_000L + seq)
+                .seq(seq)
+                .message("메시지 " + seq)
+                .isDeleted(false)
+                .sender(7L)
+                .senderName("홍길동")
+                .createdAt(BASE.plusSeconds(seq))
+                .build();
+    }
+}
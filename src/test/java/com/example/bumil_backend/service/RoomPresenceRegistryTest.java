@@ -0,0 +1,152 @@
+package com.example.bumil_backend.service;
+
+import com.example.bumil_backend.dto.websocket.response.PresenceResponse;
+import com.example.bumil_backend.enums.Role;
+import com.example.bumil_backend.security.StompPrincipal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RoomPresenceRegistryTest {
+
+    private final ChatBroadcaster chatBroadcaster = mock(ChatBroadcaster.class);
+    private final RoomPresenceRegistry registry = new RoomPresenceRegistry(chatBroadcaster);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(registry, "typingTtlMillis", 60_000L);
+        when(chatBroadcaster.destination(anyLong()))
+                .thenAnswer(invocation -> "/sub/chat/room/" + invocation.getArgument(0));
+        when(chatBroadcaster.roomIdOf(any())).thenCallRealMethod();
+    }
+
+    @Test
+    void 같은_사용자의_여러_세션은_한_번만_표시한다() {
+        subscribe("s1", "sub-0", 1L, 10L);
+        subscribe("s2", "sub-0", 1L, 10L);
+        subscribe("s3", "sub-0", 1L, 20L);
+
+        PresenceResponse presence = registry.getPresence(1L);
+        assertThat(presence.getOnline()).extracting("userId").containsExactly(10L, 20L);
+    }
+
+    @Test
+    void 방마다_주기당_한_번만_전송한다() {
+        for (int i = 0; i < 100; i++) {
+            subscribe("s" + i, "sub-0", 1L, (long) i);
+        }
+        registry.typing(1L, "s0");
+
+        registry.flush();
+        registry.flush();
+
+        verify(chatBroadcaster, times(1)).send(eq("/sub/chat/room/1/presence"), any());
+    }
+
+    @Test
+    void 구독하지_않은_세션의_입력_중_신호는_무시한다() {
+        subscribe("s1", "sub-0", 1L, 10L);
+        registry.flush();
+
+        registry.typing(1L, "other");
+        registry.typing(2L, "s1");
+        registry.flush();
+
+        verify(chatBroadcaster, times(1)).send(any(), any());
+        assertThat(registry.getPresence(1L).getTyping()).isEmpty();
+    }
+
+    @Test
+    void 채팅방_하위_경로_구독은_접속으로_보지_않는다() {
+        subscribe("s1", "sub-0", "/sub/chat/room/1/presence", 10L);
+        subscribe("s1", "sub-1", "/user/queue/errors", 10L);
+
+        assertThat(registry.roomCount()).isZero();
+        verify(chatBroadcaster, never()).destination(anyLong());
+    }
+
+    // 접속/구독 변경/입력 중/연결 종료를 반복해도 모두 나가면 방/세션 상태가 남지 않아야 함
+    @Test
+    void 접속과_종료를_반복해도_메모리가_남지_않는다() {
+        SplittableRandom random = new SplittableRandom(42);
+        int sessions = 5_000;
+
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < sessions; i++) {
+                String sessionId = "r" + round + "-s" + i;
+                long userId = random.nextInt(1_000);
+                for (int sub = 0; sub < 3; sub++) {
+                    subscribe(sessionId, "sub-" + sub, 1L + random.nextInt(200), userId);
+                }
+                if (random.nextBoolean()) {
+                    unsubscribe(sessionId, "sub-0");
+                }
+            }
+            for (int i = 0; i < sessions; i += 3) {
+                registry.typing(1L + random.nextInt(200), "r" + round + "-s" + i);
+            }
+            registry.flush();
+
+            for (int i = 0; i < sessions; i++) {
+                disconnect("r" + round + "-s" + i);
+            }
+            registry.flush();
+
+            assertThat(registry.roomCount()).isZero();
+            assertThat(registry.sessionCount()).isZero();
+        }
+    }
+
+    private void subscribe(String sessionId, String subscriptionId, Long chatRoomId, Long userId) {
+        subscribe(sessionId, subscriptionId, "/sub/chat/room/" + chatRoomId, userId);
+    }
+
+    private void subscribe(String sessionId, String subscriptionId, String destination, Long userId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination(destination);
+        registry.onSubscribe(new SessionSubscribeEvent(this, message(accessor), principal(userId)));
+    }
+
+    private void unsubscribe(String sessionId, String subscriptionId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.UNSUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        registry.onUnsubscribe(new SessionUnsubscribeEvent(this, message(accessor)));
+    }
+
+    private void disconnect(String sessionId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.DISCONNECT);
+        accessor.setSessionId(sessionId);
+        registry.onDisconnect(new SessionDisconnectEvent(this, message(accessor), sessionId, CloseStatus.NORMAL));
+    }
+
+    private Message<byte[]> message(StompHeaderAccessor accessor) {
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private StompPrincipal principal(Long userId) {
+        return new StompPrincipal(userId, "user" + userId + "@test.com", Role.USER, "user" + userId);
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.bumil_backend.support;
+
+import com.example.bumil_backend.entity.ChatRoom;
+import com.example.bumil_backend.entity.Users;
+import com.example.bumil_backend.enums.ChatTags;
+import com.example.bumil_backend.repository.ChatRoomRepository;
+import com.example.bumil_backend.repository.UserRepository;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+// DB를 쓰는 통합 테스트용 사용자/채팅방 생성과 정리
+// 만든 행만 기억했다가 cleanUp()에서 지움 (기존 데이터는 건드리지 않음)
+public class ChatTestFixture {
+
+    private final UserRepository userRepository;
+    private final ChatRoomRepository chatRoomRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    // 같은 실행에서 만든 행을 구분하기 위한 접두어
+    private final String run = UUID.randomUUID().toString().substring(0, 8);
+    private final List<Users> users = new ArrayList<>();
+    private final List<ChatRoom> chatRooms = new ArrayList<>();
+    private final Set<Integer> usedStudentNums = new HashSet<>();
+
+    public ChatTestFixture(UserRepository userRepository, ChatRoomRepository chatRoomRepository, JdbcTemplate jdbcTemplate) {
+        this.userRepository = userRepository;
+        this.chatRoomRepository = chatRoomRepository;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public static ChatTestFixture of(ApplicationContext context) {
+        return new ChatTestFixture(
+                context.getBean(UserRepository.class),
+                context.getBean(ChatRoomRepository.class),
+                context.getBean(JdbcTemplate.class));
+    }
+
+    public String run() {
+        return run;
+    }
+
+    public Users createUser(String prefix) {
+        int index = users.size();
+        Users user = userRepository.save(Users.builder()
+                .email(prefix + "-" + run + "-" + index + "@test.com")
+                .password("password")
+                .name(prefix + "-" + index)
+                .studentNum(nextStudentNum())
+                .build());
+        users.add(user);
+        return user;
+    }
+
+    public ChatRoom createPublicRoom(Users author, String title) {
+        ChatRoom chatRoom = chatRoomRepository.save(ChatRoom.builder()
+                .tag(ChatTags.IN_PROGRESS)
+                .title(title)
+                .isPublic(true)
+                .author(author)
+                .build());
+        chatRooms.add(chatRoom);
+        return chatRoom;
+    }
+
+    // 자식 행(메시지/순번/리액션/읽음 위치)부터 삭제
+    public void cleanUp() {
+        for (ChatRoom chatRoom : chatRooms) {
+            Long id = chatRoom.getId();
+            jdbcTemplate.update("DELETE FROM chat_read_cursors WHERE chat_room_id = ?", id);
+            jdbcTemplate.update("DELETE FROM chat_room_reactions WHERE chat_room_id = ?", id);
+            jdbcTemplate.update("DELETE FROM chat_messages WHERE chat_room_id = ?", id);
+            jdbcTemplate.update("DELETE FROM chat_room_seqs WHERE chat_room_id = ?", id);
+            jdbcTemplate.update("DELETE FROM chat_rooms WHERE id = ?", id);
+        }
+        for (Users user : users) {
+            jdbcTemplate.update("DELETE FROM refresh_token WHERE user_id = ?", user.getId());
+            jdbcTemplate.update("DELETE FROM users WHERE id = ?", user.getId());
+        }
+        chatRooms.clear();
+        users.clear();
+    }
+
+    // 기존 데이터와 겹치지 않는 학번 (4자리)
+    private int nextStudentNum() {
+        while (true) {
+            int candidate = ThreadLocalRandom.current().nextInt(1000, 10000);
+            if (usedStudentNums.contains(candidate)) {
+                continue;
+            }
+
+            Integer used = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM users WHERE student_num = ?", Integer.class, candidate);
+            if (used == null || used == 0) {
+                usedStudentNums.add(candidate);
+                return candidate;
+            }
+        }
+    }
+}